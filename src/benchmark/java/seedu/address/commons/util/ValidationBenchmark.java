@@ -0,0 +1,68 @@
+package seedu.address.commons.util;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the throughput of the validators of the model with {@code String.matches} on their validation regexes,
+ * which is how they validated before. Run {@link #main(String[])}.
+ */
+public class ValidationBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int CALLS_PER_ROUND = 200_000;
+
+    public static void main(String[] args) {
+        run("name", Name.VALIDATION_REGEX, Name::isValidName, "Alice Pauline", "Bob 2nd", " leading space");
+        run("phone", Phone.VALIDATION_REGEX, Phone::isValidPhone, "94351253", "12", "9435 1253");
+        run("email", Email.VALIDATION_REGEX, Email::isValidEmail, "alice.tan-99@example.com.sg", "alice@", "a@b.c");
+        run("address", Address.VALIDATION_REGEX, Address::isValidAddress, "123, Jurong West Ave 6, #08-111",
+                "Blk 5 ~ Street");
+        run("role", Role.VALIDATION_REGEX, Role::isValidRole, "Booth Vendor", "Vendor 2");
+        run("tag", Tag.VALIDATION_REGEX, Tag::isValidTagName, "friends", "best friends");
+    }
+
+    private static void run(String field, String regex, Predicate<String> validator, String... inputs) {
+        double regexRate = measure(test -> test.matches(regex), inputs);
+        double validatorRate = measure(validator, inputs);
+        System.out.printf("%-8s String.matches %8.2f M/s   validator %8.2f M/s   (%.1fx)%n",
+                field, regexRate, validatorRate, validatorRate / regexRate);
+    }
+
+    /**
+     * Returns the number of millions of calls per second of {@code validator} on {@code inputs}, in turn.
+     */
+    private static double measure(Predicate<String> validator, String[] inputs) {
+        int accepted = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            accepted += callAll(validator, inputs);
+        }
+
+        long startTime = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            accepted += callAll(validator, inputs);
+        }
+        long elapsedTime = System.nanoTime() - startTime;
+        if (accepted < 0) {
+            throw new AssertionError(); // keeps the results in use
+        }
+        return (double) MEASURED_ROUNDS * CALLS_PER_ROUND / elapsedTime * 1000;
+    }
+
+    private static int callAll(Predicate<String> validator, String[] inputs) {
+        int accepted = 0;
+        for (int i = 0; i < CALLS_PER_ROUND; i++) {
+            if (validator.test(inputs[i % inputs.length])) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Compares the throughput of {@code ArgumentTokenizer} with the prefix-by-prefix search that it used before, on the
+ * arguments of {@code add}, {@code edit} and {@code find} commands, and measures the throughput of their parsers.
+ * Run {@link #main(String[])}.
+ */
+public class ArgumentTokenizerBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int CALLS_PER_ROUND = 200_000;
+
+    private static final Prefix[] ADD_EDIT_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+        PREFIX_ROLE, PREFIX_TAG};
+    private static final Prefix[] FIND_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_ROLE, PREFIX_TAG};
+
+    private static final String ADD_ARGS = " n/Alice Pauline p/94351253 e/alice@example.com"
+            + " a/123, Jurong West Ave 6, #08-111 r/Booth Vendor t/friends t/colleagues t/vendors";
+    private static final String EDIT_ARGS = " 12 p/91234567 e/alice.tan@example.com t/friends";
+    private static final String FIND_ARGS = " n/alice n/bob n/carl n/daniel n/elle n/fiona n/george";
+
+    public static void main(String[] args) throws ParseException {
+        run("add", ADD_ARGS, ADD_EDIT_PREFIXES);
+        run("edit", EDIT_ARGS, ADD_EDIT_PREFIXES);
+        run("find", FIND_ARGS, FIND_PREFIXES);
+
+        AddCommandParser addParser = new AddCommandParser();
+        EditCommandParser editParser = new EditCommandParser();
+        FindCommandParser findParser = new FindCommandParser();
+        System.out.printf("%-6s parser                 %8.2f M/s%n", "add", measure(argsString -> {
+            try {
+                return addParser.parse(argsString).hashCode();
+            } catch (ParseException e) {
+                throw new IllegalStateException(e);
+            }
+        }, ADD_ARGS));
+        System.out.printf("%-6s parser                 %8.2f M/s%n", "edit", measure(argsString -> {
+            try {
+                return editParser.parse(argsString).hashCode();
+            } catch (ParseException e) {
+                throw new IllegalStateException(e);
+            }
+        }, EDIT_ARGS));
+        System.out.printf("%-6s parser                 %8.2f M/s%n", "find", measure(argsString -> {
+            try {
+                return findParser.parse(argsString).hashCode();
+            } catch (ParseException e) {
+                throw new IllegalStateException(e);
+            }
+        }, FIND_ARGS));
+    }
+
+    private static void run(String command, String argsString, Prefix[] prefixes) {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(prefixes);
+        double oldRate = measure(text -> tokenizeByPrefix(text, prefixes), argsString);
+        double newRate = measure(text -> tokenizer.tokenizeArgs(text).getPreamble().length(), argsString);
+        System.out.printf("%-6s indexOf per prefix %8.2f M/s   trie %8.2f M/s   (%.1fx)%n",
+                command, oldRate, newRate, newRate / oldRate);
+    }
+
+    /**
+     * Returns the number of millions of calls per second of {@code call} on {@code argsString}.
+     */
+    private static double measure(Function<String, Integer> call, String argsString) {
+        long checksum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            checksum += callAll(call, argsString);
+        }
+
+        long startTime = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            checksum += callAll(call, argsString);
+        }
+        long elapsedTime = System.nanoTime() - startTime;
+        if (checksum == Long.MIN_VALUE) {
+            throw new AssertionError(); // keeps the results in use
+        }
+        return (double) MEASURED_ROUNDS * CALLS_PER_ROUND / elapsedTime * 1000;
+    }
+
+    private static long callAll(Function<String, Integer> call, String argsString) {
+        long checksum = 0;
+        for (int i = 0; i < CALLS_PER_ROUND; i++) {
+            checksum += call.apply(argsString);
+        }
+        return checksum;
+    }
+
+    /**
+     * Tokenizes {@code argsString} the way {@code ArgumentTokenizer} did before it used a trie, searching the string
+     * once for each prefix and sorting the positions found, and returns the total length of the values.
+     */
+    private static int tokenizeByPrefix(String argsString, Prefix[] prefixes) {
+        List<int[]> positions = Arrays.stream(prefixes)
+                .flatMap(prefix -> {
+                    List<int[]> prefixPositions = new ArrayList<>();
+                    int position = argsString.indexOf(" " + prefix.getPrefix());
+                    while (position != -1) {
+                        prefixPositions.add(new int[] {position + 1, prefix.getPrefix().length()});
+                        position = argsString.indexOf(" " + prefix.getPrefix(), position + 1);
+                    }
+                    return prefixPositions.stream();
+                })
+                .collect(Collectors.toList());
+        positions.sort((position1, position2) -> position1[0] - position2[0]);
+        positions.add(0, new int[] {0, 0});
+        positions.add(new int[] {argsString.length(), 0});
+
+        int totalLength = 0;
+        for (int i = 0; i < positions.size() - 1; i++) {
+            int valueStartPos = positions.get(i)[0] + positions.get(i)[1];
+            totalLength += argsString.substring(valueStartPos, positions.get(i + 1)[0]).trim().length();
+        }
+        return totalLength;
+    }
+}
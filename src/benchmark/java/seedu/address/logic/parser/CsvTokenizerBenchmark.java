@@ -0,0 +1,112 @@
+package seedu.address.logic.parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the throughput of {@code CsvTokenizer} with the line-based parsing that {@code CsvParser} used before it.
+ * Run {@link #main(String[])} with an optional number of rows (100,000 by default).
+ */
+public class CsvTokenizerBenchmark {
+
+    private static final int DEFAULT_ROW_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) throws IOException {
+        int rowCount = args.length == 0 ? DEFAULT_ROW_COUNT : Integer.parseInt(args[0]);
+        String csv = generateCsv(rowCount);
+        System.out.printf("%d rows, %.1f MB of text%n", rowCount, csv.length() * 2 / 1e6);
+
+        run("line-based parser", csv, CsvTokenizerBenchmark::parseWithLines);
+        run("tokenizer over reader", csv, text -> parseWithTokenizer(new CsvTokenizer(new StringReader(text))));
+        run("tokenizer over char buffer", csv, text ->
+                parseWithTokenizer(new CsvTokenizer(CharBuffer.wrap(text.toCharArray()))));
+    }
+
+    private static void run(String name, String csv, Parse parse) throws IOException {
+        long checksum = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            checksum += parse.apply(csv);
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            checksum += parse.apply(csv);
+        }
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        System.out.printf("%-28s %8.1f MB/s (checksum %d)%n", name,
+                csv.length() * 2 * (double) MEASURED_ROUNDS / 1e6 / seconds, checksum);
+    }
+
+    private static String generateCsv(int rowCount) {
+        StringBuilder csv = new StringBuilder("Name,Phone,Email,Address,Role,Tags\n");
+        for (int i = 0; i < rowCount; i++) {
+            csv.append("Person ").append(i).append(',')
+                    .append(80000000 + i).append(',')
+                    .append("person").append(i).append("@example.com,")
+                    .append("\"Blk ").append(i % 900).append(", Jurong West Ave 6, #08-111\",")
+                    .append(i % 2 == 0 ? "Organizer" : "Booth Vendor").append(',')
+                    .append("\"friend, colleague\"\n");
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Parses {@code csv} the way {@code CsvParser} did before it used {@code CsvTokenizer}, and returns the total
+     * length of the fields.
+     */
+    private static long parseWithLines(String csv) throws IOException {
+        long totalLength = 0;
+        try (BufferedReader reader = new BufferedReader(new StringReader(csv))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                List<String> fields = new ArrayList<>();
+                StringBuilder sb = new StringBuilder();
+                boolean inQuotes = false;
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (c == '"') {
+                        inQuotes = !inQuotes;
+                    } else if (c == ',' && !inQuotes) {
+                        fields.add(sb.toString().trim());
+                        sb.setLength(0);
+                    } else {
+                        sb.append(c);
+                    }
+                }
+                fields.add(sb.toString().trim());
+                for (String field : fields) {
+                    totalLength += field.length();
+                }
+            }
+        }
+        return totalLength;
+    }
+
+    /**
+     * Parses the text of {@code tokenizer} the way {@code CsvParser} does, and returns the total length of the
+     * fields.
+     */
+    private static long parseWithTokenizer(CsvTokenizer tokenizer) throws IOException {
+        long totalLength = 0;
+        try (tokenizer) {
+            while (tokenizer.nextRecord()) {
+                for (int i = 0; i < tokenizer.getFieldCount(); i++) {
+                    totalLength += tokenizer.getField(i).trim().length();
+                }
+            }
+        }
+        return totalLength;
+    }
+
+    @FunctionalInterface
+    private interface Parse {
+        long apply(String csv) throws IOException;
+    }
+}
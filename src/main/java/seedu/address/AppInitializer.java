@@ -0,0 +1,251 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Wires up the config, storage, model and logic of the application, which do not depend on JavaFX being started,
+ * and saves them when the application stops. Used by both the GUI and the headless entry points.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    private DataLoadingException addressBookLoadFailure;
+    private long phaseStartTime;
+
+    /**
+     * Reads the config at {@code configFilePath}, or at the default config path if it is null, and the user prefs
+     * and address book it points to, and creates the logic that runs commands on them.
+     */
+    public AppInitializer(Path configFilePath) {
+        phaseStartTime = System.nanoTime();
+
+        config = initConfig(configFilePath);
+        initLogging(config);
+        logPhaseTime("config");
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs.getAddressBookFilePath());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logPhaseTime("user prefs and storage");
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage);
+        logPhaseTime("logic");
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns the error that prevented the data file from being loaded, in which case the model holds an empty
+     * address book instead, or {@code Optional.empty()} if it was loaded or did not exist.
+     */
+    public Optional<DataLoadingException> getAddressBookLoadFailure() {
+        return Optional.ofNullable(addressBookLoadFailure);
+    }
+
+    /**
+     * Logs how long the startup phase named {@code phase}, which started when the previous phase ended, took.
+     */
+    public void logPhaseTime(String phase) {
+        long now = System.nanoTime();
+        logger.info("Startup phase '" + phase + "' took " + TimeUnit.NANOSECONDS.toMillis(now - phaseStartTime)
+                + " ms");
+        phaseStartTime = now;
+    }
+
+    /**
+     * Waits for any background exports and saves of the address book to finish, retrying a failed save, and saves
+     * the user prefs.
+     *
+     * @return true if everything was saved.
+     */
+    public boolean stop() {
+        logic.finishBackgroundExports();
+        boolean isSaved = true;
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.warning("Background save of address book failed, saving it again: " + StringUtil.getDetails(e));
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException retryException) {
+                logger.severe("Failed to save address book " + StringUtil.getDetails(retryException));
+                isSaved = false;
+            }
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+            isSaved = false;
+        }
+        return isSaved;
+    }
+
+    /**
+     * Returns a journaled storage for the address book at {@code addressBookFilePath} if journaling is enabled in
+     * {@code config}, or if the data file already has a journal that must be replayed; otherwise a json storage.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, Path addressBookFilePath) {
+        if (config.isAddressBookJournalEnabled() || JournaledAddressBookStorage.hasJournal(addressBookFilePath)) {
+            logger.info("Using a journal for address book changes: "
+                    + JournaledAddressBookStorage.getJournalPath(addressBookFilePath));
+            return new JournaledAddressBookStorage(addressBookFilePath,
+                    JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, config.isAddressBookPrettyPrinted());
+        }
+        return new JsonAddressBookStorage(addressBookFilePath, config.isAddressBookPrettyPrinted());
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            addressBookLoadFailure = e;
+            initialData = new AddressBook();
+        }
+        logPhaseTime("reading address book");
+
+        Model initializedModel = new ModelManager(initialData, userPrefs);
+        logPhaseTime("building model");
+        return initializedModel;
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.BatchResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * The entry point for running commands without the GUI, e.g. in scheduled jobs on servers without a display.
+ * JavaFX is never started, so this starts quickly and does not need a display.
+ * <p>
+ * Usage: {@code java -cp listify.jar seedu.address.HeadlessMain [--config=PATH] [--atomic] [FILE]}
+ * <p>
+ * Commands are read one per line from {@code FILE}, or from standard input until it ends if {@code FILE} is absent
+ * or {@code -}, and executed as one batch, with the address book saved once at the end. The feedback of each command
+ * that succeeds is written to standard output; the commands that fail and a summary are written to standard error.
+ * If the data file exists but cannot be loaded, no commands are run and nothing is saved.
+ */
+public class HeadlessMain {
+
+    /** Every command succeeded and everything was saved. */
+    public static final int EXIT_SUCCESS = 0;
+    /** At least one command failed. */
+    public static final int EXIT_COMMAND_FAILED = 1;
+    /** The arguments were invalid. */
+    public static final int EXIT_USAGE_ERROR = 2;
+    /**
+     * The commands could not be read, the address book could not be loaded, or the address book or user prefs could
+     * not be saved.
+     */
+    public static final int EXIT_IO_ERROR = 3;
+
+    public static final String ATOMIC_OPTION = "--atomic";
+    public static final String STDIN_FILENAME = "-";
+    public static final String MESSAGE_USAGE = "Usage: java -cp listify.jar " + HeadlessMain.class.getName()
+            + " [--config=PATH] [" + ATOMIC_OPTION + "] [FILE]\n"
+            + "Runs the commands in FILE, or in standard input if FILE is absent or " + STDIN_FILENAME
+            + ", one per line.\n"
+            + "With " + ATOMIC_OPTION + ", no changes are saved unless every command succeeds.";
+    public static final String MESSAGE_READ_FAILURE = "Could not read commands from %1$s due to: %2$s";
+    public static final String MESSAGE_LOAD_FAILURE = "Could not load the address book from %1$s due to: %2$s\n"
+            + "No commands were run.";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    /**
+     * Runs the commands given by {@code args} as described above, and returns the exit code.
+     */
+    static int run(String[] args, InputStream in, PrintStream out, PrintStream err) {
+        Map<String, String> namedParameters = new HashMap<>();
+        boolean isAtomic = false;
+        String filename = null;
+        for (String arg : args) {
+            if (arg.equals(ATOMIC_OPTION)) {
+                isAtomic = true;
+            } else if (arg.startsWith("--") && arg.indexOf('=') > 2) {
+                namedParameters.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else if (filename == null && (arg.equals(STDIN_FILENAME) || !arg.startsWith("-"))) {
+                filename = arg;
+            } else {
+                err.println(MESSAGE_USAGE);
+                return EXIT_USAGE_ERROR;
+            }
+        }
+
+        List<String> commandTexts;
+        try {
+            commandTexts = filename == null || filename.equals(STDIN_FILENAME)
+                    ? new BufferedReader(new InputStreamReader(in, UTF_8)).lines().toList()
+                    : Files.readAllLines(Path.of(filename), UTF_8);
+        } catch (IOException | RuntimeException e) {
+            err.println(String.format(MESSAGE_READ_FAILURE,
+                    filename == null ? "standard input" : filename, e.getMessage()));
+            return EXIT_IO_ERROR;
+        }
+
+        logger.info("=============================[ Running AddressBook headless ]=======================");
+        AppInitializer appInitializer = new AppInitializer(AppParameters.parse(namedParameters).getConfigPath());
+        Optional<DataLoadingException> loadFailure = appInitializer.getAddressBookLoadFailure();
+        if (loadFailure.isPresent()) {
+            // nothing is saved, as saving the empty address book would overwrite the data file
+            err.println(String.format(MESSAGE_LOAD_FAILURE,
+                    appInitializer.getStorage().getAddressBookFilePath(), loadFailure.get().getMessage()));
+            return EXIT_IO_ERROR;
+        }
+        BatchResult batchResult;
+        try {
+            batchResult = appInitializer.getLogic().executeBatch(commandTexts, isAtomic);
+        } catch (CommandException e) {
+            err.println(e.getMessage());
+            appInitializer.stop();
+            return EXIT_IO_ERROR;
+        }
+
+        for (BatchResult.LineResult lineResult : batchResult.getLineResults()) {
+            if (lineResult.isSuccess()) {
+                out.println(lineResult.getMessage());
+            } else {
+                err.println(String.format(RunCommand.MESSAGE_FAILED_LINE,
+                        lineResult.getLineNumber(), lineResult.getCommandText(), lineResult.getMessage()));
+            }
+        }
+        err.println(batchResult.getSummary());
+
+        if (!appInitializer.stop()) {
+            return EXIT_IO_ERROR;
+        }
+        return batchResult.getFailures().isEmpty() ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+}
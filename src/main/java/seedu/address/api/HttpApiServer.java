@@ -0,0 +1,437 @@
+package seedu.address.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Serves a JSON API over HTTP on the loopback interface, so that other local tools can read and change the address
+ * book while the app is running.
+ * <p>
+ * Endpoints:
+ * <ul>
+ *     <li>{@code GET /api/persons?offset=O&limit=L}: a page of the persons, in address book order</li>
+ *     <li>{@code GET /api/persons/find?q=ARGS}: the persons found by {@code find ARGS}, e.g. {@code q=n/alice}</li>
+ *     <li>{@code GET /api/persons/by-phone/PHONE} and {@code GET /api/persons/by-email/EMAIL}: one person</li>
+ *     <li>{@code POST /api/commands}: executes the command in the JSON request body, e.g.
+ *     {@code {"command": "add n/..."}}</li>
+ * </ul>
+ * Every request must carry the token of this server, which is random and made anew every launch, in an
+ * {@code Authorization: Bearer TOKEN} header. As web pages cannot learn the token, nor set the header on a request
+ * that the browser sends without asking the server first, they cannot trigger commands. Requests that a browser
+ * marks with an {@code Origin} header, or that are addressed to a {@code Host} other than the loopback address and
+ * port of the server (e.g. by DNS rebinding), are rejected as well, and so are command requests whose body is not
+ * declared as JSON.
+ * Reads are served concurrently from the snapshot published by {@link Logic#getAddressBookSnapshot()} after the last
+ * command, so every response reflects the address book between two commands. Commands are all executed on the
+ * single writer {@code Executor} given, which must be the thread that executes the other commands of the app.
+ */
+public class HttpApiServer {
+
+    public static final String MESSAGE_NOT_FOUND = "Not found";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method not allowed";
+    public static final String MESSAGE_INVALID_PAGE = "offset must be at least 0, and limit between 1 and %1$d";
+    public static final String MESSAGE_MISSING_QUERY = "The q parameter must give the arguments of a find command";
+    public static final String MESSAGE_UNAUTHORIZED = "The request must carry the API token as "
+            + "'Authorization: Bearer TOKEN'";
+    public static final String MESSAGE_FORBIDDEN_ORIGIN = "Requests from web pages are not accepted";
+    public static final String MESSAGE_FORBIDDEN_HOST = "The request must be addressed to the loopback address and "
+            + "port of the API";
+    public static final String MESSAGE_UNSUPPORTED_MEDIA_TYPE = "The request body must be JSON, sent with "
+            + "'Content-Type: application/json'";
+    public static final String MESSAGE_MISSING_COMMAND = "The request body must give the command to execute, e.g. "
+            + "{\"command\": \"list\"}";
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(HttpApiServer.class);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String JSON_MEDIA_TYPE = "application/json";
+    private static final int TOKEN_BYTES = 32;
+
+    private final Logic logic;
+    private final Executor writer;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final String token;
+    private final Set<String> allowedHosts;
+
+    /**
+     * Creates a server on the loopback interface at {@code port}, or at a free port if it is 0, that executes
+     * commands on {@code writer}, with a new random token. The server does not accept requests until it is started.
+     */
+    public HttpApiServer(Logic logic, Executor writer, int port) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(writer);
+        this.logic = logic;
+        this.writer = writer;
+        token = newToken();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        int boundPort = server.getAddress().getPort();
+        allowedHosts = Set.of("127.0.0.1:" + boundPort, "localhost:" + boundPort, "[::1]:" + boundPort);
+        requestExecutor = newRequestExecutor();
+        server.setExecutor(requestExecutor);
+        server.createContext("/api/persons", new Handler("GET", this::handlePersons));
+        server.createContext("/api/commands", new Handler("POST", this::handleCommand));
+    }
+
+    private static String newToken() {
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(tokenBytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+    }
+
+    /**
+     * Returns an executor that handles each request on its own virtual thread if the JVM has them (Java 21 and
+     * later), or on a pool of daemon platform threads otherwise, as the app is built for Java 17.
+     */
+    private static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.info("Virtual threads are not available, so API requests are handled on platform threads");
+            AtomicInteger threadCount = new AtomicInteger();
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2, runnable -> {
+                Thread thread = new Thread(runnable, "api-request-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("HTTP API listening on http://" + server.getAddress().getHostString() + ":" + getPort() + "/api");
+    }
+
+    /**
+     * Stops accepting requests, and waits up to a second for the requests being handled to finish.
+     */
+    public void stop() {
+        server.stop(1);
+        requestExecutor.shutdown();
+    }
+
+    /**
+     * Returns the port that the server listens on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the token that requests must carry.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Returns the response that rejects {@code exchange} if it may have been sent by a web page, or does not carry
+     * the token, or {@code Optional.empty()} if it may be handled.
+     */
+    private Optional<Response> checkRequest(HttpExchange exchange) {
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            return Optional.of(Response.error(403, MESSAGE_FORBIDDEN_ORIGIN));
+        }
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host == null || !allowedHosts.contains(host.toLowerCase(Locale.ROOT))) {
+            return Optional.of(Response.error(403, MESSAGE_FORBIDDEN_HOST));
+        }
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX) || !MessageDigest.isEqual(
+                token.getBytes(UTF_8), authorization.substring(BEARER_PREFIX.length()).getBytes(UTF_8))) {
+            return Optional.of(Response.error(401, MESSAGE_UNAUTHORIZED));
+        }
+        return Optional.empty();
+    }
+
+    private Response handlePersons(HttpExchange exchange) throws ParseException {
+        ReadOnlyAddressBook snapshot = logic.getAddressBookSnapshot();
+        List<Person> persons = snapshot.getPersonList();
+        String path = exchange.getRequestURI().getPath();
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+        if (path.equals("/api/persons") || path.equals("/api/persons/")) {
+            return getPage(persons, query);
+        } else if (path.equals("/api/persons/find")) {
+            String findArgs = query.get("q");
+            if (findArgs == null || findArgs.isBlank()) {
+                return Response.error(400, MESSAGE_MISSING_QUERY);
+            }
+            Predicate<Person> predicate = new FindCommandParser().parse(" " + findArgs).getPredicate();
+            List<PersonJson> found = persons.stream().filter(predicate).map(PersonJson::new).toList();
+            return new Response(200, new PersonPage(found.size(), 0, found));
+        } else if (path.startsWith("/api/persons/by-phone/")) {
+            String phone = path.substring("/api/persons/by-phone/".length());
+            return getPerson(persons, person -> person.getPhone().value.equals(phone));
+        } else if (path.startsWith("/api/persons/by-email/")) {
+            String email = path.substring("/api/persons/by-email/".length());
+            return getPerson(persons, person -> person.getEmail().value.equalsIgnoreCase(email));
+        }
+        return Response.error(404, MESSAGE_NOT_FOUND);
+    }
+
+    private static Response getPage(List<Person> persons, Map<String, String> query) {
+        int offset;
+        int limit;
+        try {
+            offset = Integer.parseInt(query.getOrDefault("offset", "0"));
+            limit = Integer.parseInt(query.getOrDefault("limit", String.valueOf(DEFAULT_PAGE_SIZE)));
+        } catch (NumberFormatException e) {
+            return Response.error(400, String.format(MESSAGE_INVALID_PAGE, MAX_PAGE_SIZE));
+        }
+        if (offset < 0 || limit < 1 || limit > MAX_PAGE_SIZE) {
+            return Response.error(400, String.format(MESSAGE_INVALID_PAGE, MAX_PAGE_SIZE));
+        }
+
+        int fromIndex = Math.min(offset, persons.size());
+        int toIndex = Math.min(fromIndex + limit, persons.size());
+        List<PersonJson> page = persons.subList(fromIndex, toIndex).stream().map(PersonJson::new).toList();
+        return new Response(200, new PersonPage(persons.size(), offset, page));
+    }
+
+    private static Response getPerson(List<Person> persons, Predicate<Person> predicate) {
+        Optional<Person> person = persons.stream().filter(predicate).findFirst();
+        return person.isPresent()
+                ? new Response(200, new PersonJson(person.get()))
+                : Response.error(404, MESSAGE_NOT_FOUND);
+    }
+
+    /**
+     * Executes the command in the JSON request body on the writer, and waits for its result.
+     */
+    private Response handleCommand(HttpExchange exchange) throws IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.split(";")[0].trim().equalsIgnoreCase(JSON_MEDIA_TYPE)) {
+            return Response.error(415, MESSAGE_UNSUPPORTED_MEDIA_TYPE);
+        }
+
+        String requestBody;
+        try (InputStream body = exchange.getRequestBody()) {
+            requestBody = new String(body.readAllBytes(), UTF_8);
+        }
+        CommandRequest request;
+        try {
+            request = JsonUtil.fromJsonString(requestBody, CommandRequest.class);
+        } catch (IOException e) {
+            return Response.error(400, MESSAGE_MISSING_COMMAND);
+        }
+        if (request == null || request.command == null || request.command.isBlank()) {
+            return Response.error(400, MESSAGE_MISSING_COMMAND);
+        }
+        String commandText = request.command.trim();
+
+        try {
+            CommandResult commandResult = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return logic.execute(commandText);
+                } catch (CommandException | ParseException e) {
+                    throw new CompletionException(e);
+                }
+            }, writer).join();
+            return new Response(200, new CommandJson(true, commandResult.getFeedbackToUser()));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CommandException || e.getCause() instanceof ParseException) {
+                return new Response(400, new CommandJson(false, e.getCause().getMessage()));
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the parameters of {@code rawQuery}, decoded. Where a parameter is repeated, the last value is kept.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int separatorIndex = parameter.indexOf('=');
+            if (separatorIndex > 0) {
+                parameters.put(URLDecoder.decode(parameter.substring(0, separatorIndex), UTF_8),
+                        URLDecoder.decode(parameter.substring(separatorIndex + 1), UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Handles the requests to one context, which must pass {@link #checkRequest(HttpExchange)} and use
+     * {@code method}, and writes the response as JSON.
+     */
+    private class Handler implements HttpHandler {
+        private final String method;
+        private final Endpoint endpoint;
+
+        Handler(String method, Endpoint endpoint) {
+            this.method = method;
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            Optional<Response> rejection = checkRequest(exchange);
+            Response response;
+            try {
+                if (rejection.isPresent()) {
+                    response = rejection.get();
+                } else {
+                    response = exchange.getRequestMethod().equals(method)
+                            ? endpoint.handle(exchange)
+                            : Response.error(405, MESSAGE_METHOD_NOT_ALLOWED);
+                }
+            } catch (ParseException e) {
+                response = Response.error(400, e.getMessage());
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to handle " + exchange.getRequestMethod() + " " + exchange.getRequestURI()
+                        + ": " + e);
+                response = Response.error(500, String.valueOf(e.getMessage()));
+            }
+
+            byte[] body = JsonUtil.toCompactJsonString(response.body).getBytes(UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        }
+    }
+
+    /**
+     * Produces the response to a request.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        Response handle(HttpExchange exchange) throws IOException, ParseException;
+    }
+
+    /**
+     * A status code, and a body to write as JSON.
+     */
+    private static class Response {
+        private final int status;
+        private final Object body;
+
+        Response(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response error(int status, String message) {
+            return new Response(status, new ErrorJson(message));
+        }
+    }
+
+    /**
+     * The JSON form of a command request.
+     */
+    private static class CommandRequest {
+        private String command;
+    }
+
+    /**
+     * The JSON form of a person.
+     */
+    private static class PersonJson {
+        private final String name;
+        private final String phone;
+        private final String email;
+        private final String address;
+        private final String role;
+        private final List<String> tags;
+        private final String lastContacted;
+
+        PersonJson(Person person) {
+            name = person.getName().fullName;
+            phone = person.getPhone().value;
+            email = person.getEmail().value;
+            address = person.getAddress().value;
+            role = person.getRole().value;
+            tags = person.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList());
+            lastContacted = person.getLastContacted().map(Object::toString).orElse(null);
+        }
+    }
+
+    /**
+     * The JSON form of a page of persons, out of {@code total} persons.
+     */
+    private static class PersonPage {
+        private final int total;
+        private final int offset;
+        private final List<PersonJson> persons;
+
+        PersonPage(int total, int offset, List<PersonJson> persons) {
+            this.total = total;
+            this.offset = offset;
+            this.persons = persons;
+        }
+    }
+
+    /**
+     * The JSON form of the outcome of a command.
+     */
+    private static class CommandJson {
+        private final boolean success;
+        private final String feedback;
+
+        CommandJson(boolean success, String feedback) {
+            this.success = success;
+            this.feedback = feedback;
+        }
+    }
+
+    /**
+     * The JSON form of an error.
+     */
+    private static class ErrorJson {
+        private final String error;
+
+        ErrorJson(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean addressBookJournalEnabled = false;
+    private boolean addressBookPrettyPrinted = true;
+    private int apiPort = 0;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,41 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if changes to the address book should be appended to a journal instead of rewriting the whole
+     * data file on every save.
+     */
+    public boolean isAddressBookJournalEnabled() {
+        return addressBookJournalEnabled;
+    }
+
+    public void setAddressBookJournalEnabled(boolean addressBookJournalEnabled) {
+        this.addressBookJournalEnabled = addressBookJournalEnabled;
+    }
+
+    /**
+     * Returns true if the address book data file should be indented over multiple lines, rather than written
+     * compactly.
+     */
+    public boolean isAddressBookPrettyPrinted() {
+        return addressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean addressBookPrettyPrinted) {
+        this.addressBookPrettyPrinted = addressBookPrettyPrinted;
+    }
+
+    /**
+     * Returns the local port that the HTTP API listens on, or 0 if the HTTP API is disabled.
+     */
+    public int getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(int apiPort) {
+        this.apiPort = apiPort;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +85,16 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && addressBookJournalEnabled == otherConfig.addressBookJournalEnabled
+                && addressBookPrettyPrinted == otherConfig.addressBookPrettyPrinted
+                && apiPort == otherConfig.apiPort;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, addressBookJournalEnabled, addressBookPrettyPrinted,
+                apiPort);
     }
 
     @Override
@@ -60,6 +102,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("addressBookJournalEnabled", addressBookJournalEnabled)
+                .add("addressBookPrettyPrinted", addressBookPrettyPrinted)
+                .add("apiPort", apiPort)
                 .toString();
     }
 
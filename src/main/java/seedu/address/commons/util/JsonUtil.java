@@ -2,6 +2,8 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -11,6 +13,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -30,8 +34,12 @@ public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            // Streamed values are flushed when their generator is closed, not after every value written to it
+            .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
             .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
@@ -40,12 +48,56 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        try (JsonGenerator generator = createGenerator(jsonFile, true)) {
+            objectMapper.writeValue(generator, objectToSerialize);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (JsonParser parser = createParser(jsonFile)) {
+            return objectMapper.readValue(parser, classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Returns a generator that streams JSON to {@code jsonFile} through a buffer, without building the JSON in
+     * memory first. Overwrites the file if it exists, creates it if it doesn't.
+     * The file is only completely written once the generator is closed.
+     *
+     * @param isPrettyPrinted whether the JSON is indented over multiple lines, or written compactly.
+     */
+    public static JsonGenerator createGenerator(Path jsonFile, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(jsonFile);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(
+                new BufferedOutputStream(Files.newOutputStream(jsonFile), FILE_BUFFER_SIZE));
+        return isPrettyPrinted ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
+    /**
+     * Returns a parser that streams JSON from {@code jsonFile} through a buffer, without reading the whole file
+     * into memory first.
+     */
+    public static JsonParser createParser(Path jsonFile) throws IOException {
+        requireNonNull(jsonFile);
+        return objectMapper.getFactory().createParser(
+                new BufferedInputStream(Files.newInputStream(jsonFile), FILE_BUFFER_SIZE));
+    }
+
+    /**
+     * Writes {@code value} to {@code generator} as the next JSON value, converting it as the other methods of this
+     * class do.
+     */
+    public static <T> void writeValue(JsonGenerator generator, T value) throws IOException {
+        objectMapper.writeValue(generator, value);
+    }
+
+    /**
+     * Reads the JSON value that starts at the current token of {@code parser} into an instance of
+     * {@code instanceClass}, converting it as the other methods of this class do.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
     }
 
     /**
@@ -111,6 +163,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string, without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,253 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that is changed by making new versions of it, which share all but O(log n) of their structure
+ * with the version they were made from. Any number of versions can therefore be kept, e.g. as snapshots, at a cost
+ * proportional to the changes between them, and each version is safe to read from any thread.
+ * <p>
+ * The elements are kept in order in a weight-balanced binary tree, so that reading, replacing, inserting or removing
+ * the element at any position takes O(log n) time. Elements must not be null.
+ *
+ * @param <E> the type of the elements.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    // The usual parameters of weight-balanced trees: a subtree may be at most DELTA times the size of its sibling,
+    // and a double rather than a single rotation restores balance when the inner grandchild is at least RATIO times
+    // the size of the outer one
+    private static final int DELTA = 3;
+    private static final int RATIO = 2;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in the same order, in O(n) time.
+     */
+    public static <E> PersistentList<E> copyOf(List<? extends E> elements) {
+        CollectionUtil.requireAllNonNull(elements);
+        return elements.isEmpty() ? empty() : new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns a version of this list with {@code element} in place of the element at {@code index}.
+     */
+    public PersistentList<E> withSet(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a version of this list with {@code element} inserted at {@code index}, shifting the elements from
+     * {@code index} onwards right.
+     */
+    public PersistentList<E> withInserted(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a version of this list with {@code element} added to the end.
+     */
+    public PersistentList<E> withAppended(E element) {
+        return withInserted(size(), element);
+    }
+
+    /**
+     * Returns a version of this list without the element at {@code index}, shifting the elements after it left.
+     */
+    public PersistentList<E> withRemoved(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns an iterator over the elements of this list that visits them all in O(n) time.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+            private Node<E> next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                while (next != null) {
+                    path.push(next);
+                    next = next.left;
+                }
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                next = node.right;
+                return node.element;
+            }
+        };
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return node(build(elements, from, middle), elements.get(middle), build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), node.element, node.right, node.size);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, element, node.right, node.size);
+        } else {
+            return new Node<>(node.left, node.element, set(node.right, index - leftSize - 1, element), node.size);
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return node(null, element, null);
+        }
+        int leftSize = size(node.left);
+        return index <= leftSize
+                ? balance(insert(node.left, index, element), node.element, node.right)
+                : balance(node.left, node.element, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.element, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.element, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else if (node.left.size > node.right.size) {
+            return balance(remove(node.left, leftSize - 1), last(node.left), node.right);
+        } else {
+            return balance(node.left, first(node.right), remove(node.right, 0));
+        }
+    }
+
+    private static <E> E first(Node<E> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.element;
+    }
+
+    private static <E> E last(Node<E> node) {
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.element;
+    }
+
+    /**
+     * Returns a node with the given children and element, rotating it if one side has become too heavy after a
+     * single element was inserted into or removed from the other.
+     */
+    private static <E> Node<E> balance(Node<E> left, E element, Node<E> right) {
+        int leftSize = size(left);
+        int rightSize = size(right);
+        if (leftSize + rightSize <= 1) {
+            return node(left, element, right);
+        } else if (rightSize > DELTA * leftSize) {
+            return size(right.left) < RATIO * size(right.right)
+                    ? node(node(left, element, right.left), right.element, right.right)
+                    : node(node(left, element, right.left.left), right.left.element,
+                            node(right.left.right, right.element, right.right));
+        } else if (leftSize > DELTA * rightSize) {
+            return size(left.right) < RATIO * size(left.left)
+                    ? node(left.left, left.element, node(left.right, element, right))
+                    : node(node(left.left, left.element, left.right.left), left.right.element,
+                            node(left.right.right, element, right));
+        }
+        return node(left, element, right);
+    }
+
+    private static <E> Node<E> node(Node<E> left, E element, Node<E> right) {
+        return new Node<>(left, element, right, size(left) + size(right) + 1);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A node of the tree, which is never changed once made.
+     */
+    private static class Node<E> {
+        private final Node<E> left;
+        private final E element;
+        private final Node<E> right;
+        private final int size;
+
+        Node(Node<E> left, E element, Node<E> right, int size) {
+            this.left = left;
+            this.element = element;
+            this.right = right;
+            this.size = size;
+        }
+    }
+}
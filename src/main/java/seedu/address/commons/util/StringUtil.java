@@ -5,7 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.Normalizer;
 import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -65,4 +67,36 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the key that {@code text} is searched by: {@code text} in Unicode normalization form NFKC, so that e.g.
+     * full-width letters match their ASCII forms, and then lower-cased independently of the default locale.
+     * Returns {@code text} itself if it is already a key, e.g. a lower-case ASCII string.
+     */
+    public static String toSearchKey(String text) {
+        requireNonNull(text);
+        String normalized = isAscii(text) ? text : Normalizer.normalize(text, Normalizer.Form.NFKC);
+        return normalized.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns true if {@code text} contains any of {@code substrings}, without allocating.
+     */
+    public static boolean containsAny(String text, String... substrings) {
+        for (String substring : substrings) {
+            if (text.contains(substring)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
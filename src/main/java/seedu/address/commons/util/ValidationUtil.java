@@ -0,0 +1,90 @@
+package seedu.address.commons.util;
+
+/**
+ * Scanners that check strings against simple grammars in a single pass, without compiling a regex or allocating.
+ * Each scanner accepts exactly the strings that the regex in its description fully matches, where {@code \d},
+ * {@code \p{Alpha}} and {@code \p{Alnum}} are the ASCII character classes of {@link java.util.regex.Pattern}.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} has between {@code minLength} and {@code maxLength} characters, all of which are
+     * ASCII digits, as with the regex {@code \d{minLength,maxLength}}.
+     */
+    public static boolean isDigits(String test, int minLength, int maxLength) {
+        int length = test.length();
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is one or more ASCII letters and digits, as with the regex {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        int length = test.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is an ASCII letter or digit followed by any number of ASCII letters, digits and
+     * spaces, as with the regex {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWithSpaces(String test) {
+        int length = test.length();
+        if (length == 0 || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is an ASCII letter followed by any number of ASCII letters and spaces, as with the
+     * regex {@code [\p{Alpha}][\p{Alpha} ]*}.
+     */
+    public static boolean isAlphabeticWithSpaces(String test) {
+        int length = test.length();
+        if (length == 0 || !isAsciiLetter(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiLetter(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || isAsciiLetter(c);
+    }
+}
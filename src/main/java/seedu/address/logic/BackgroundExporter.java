@@ -0,0 +1,183 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.storage.ExportProgress;
+
+/**
+ * Runs exports one at a time on a background thread, so that commands that start them return straight away.
+ * <p>
+ * An export writes an immutable snapshot of the address book taken when it was started, so later changes to the
+ * address book neither affect nor wait for it. The progress and outcome of each export are reported to an
+ * {@link ExportListener} on the background thread, and every export that has not finished can be cancelled.
+ */
+public class BackgroundExporter {
+
+    public static final String MESSAGE_EXPORT_CANCELLED = "Cancelled export to %1$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Failed to export to %1$s";
+
+    // Number of progress updates reported over the course of an export
+    private static final int PROGRESS_UPDATE_COUNT = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundExporter.class);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-exporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExportListener listener;
+    private final Set<Export> unfinishedExports = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a {@code BackgroundExporter} that reports the progress and outcome of its exports to {@code listener}.
+     */
+    public BackgroundExporter(ExportListener listener) {
+        requireNonNull(listener);
+        this.listener = listener;
+    }
+
+    /**
+     * Queues {@code task}, which exports to {@code filePath}, to run after the exports already queued.
+     */
+    public void submit(Path filePath, ExportTask task) {
+        requireNonNull(filePath);
+        requireNonNull(task);
+        Export export = new Export(filePath);
+        unfinishedExports.add(export);
+        executor.execute(() -> run(export, task));
+    }
+
+    /**
+     * Cancels every export that has not finished, and returns how many were cancelled.
+     */
+    public int cancelAll() {
+        int cancelledCount = 0;
+        for (Export export : unfinishedExports) {
+            if (export.cancel()) {
+                cancelledCount++;
+            }
+        }
+        return cancelledCount;
+    }
+
+    /**
+     * Stops accepting exports, and waits for those already submitted to finish, so that none is left partly written
+     * when the application exits.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.info("Waiting for " + unfinishedExports.size() + " export(s) to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for exports to finish");
+        }
+    }
+
+    private void run(Export export, ExportTask task) {
+        String message;
+        try {
+            if (export.isCancelled()) {
+                throw new CancellationException();
+            }
+            message = task.run(export);
+        } catch (CancellationException e) {
+            message = String.format(MESSAGE_EXPORT_CANCELLED, export.filePath);
+        } catch (CommandException e) {
+            message = getFailureMessage(export, e);
+        } catch (RuntimeException e) {
+            logger.warning("Export to " + export.filePath + " failed: " + e);
+            message = getFailureMessage(export, e);
+        } finally {
+            unfinishedExports.remove(export);
+        }
+
+        logger.info(message);
+        listener.exportFinished(export.filePath, message);
+    }
+
+    private static String getFailureMessage(Export export, Exception e) {
+        return e.getMessage() == null ? String.format(MESSAGE_EXPORT_FAILED, export.filePath) : e.getMessage();
+    }
+
+    /**
+     * Writes an export.
+     */
+    @FunctionalInterface
+    public interface ExportTask {
+        /**
+         * Writes the export, reporting its progress to {@code progress} and stopping if it is cancelled.
+         *
+         * @return the message to show the user when the export is written.
+         * @throws CommandException if the export could not be written.
+         * @throws CancellationException if the export was cancelled before it was written.
+         */
+        String run(ExportProgress progress) throws CommandException;
+    }
+
+    /**
+     * Receives the progress and outcome of exports, on the thread that writes them.
+     */
+    public interface ExportListener {
+        /**
+         * Called as the export to {@code filePath} is written, with the number of persons written so far.
+         */
+        void exportProgressed(Path filePath, int writtenCount, int totalCount);
+
+        /**
+         * Called when the export to {@code filePath} has been written, has failed or has been cancelled, with the
+         * message to show the user.
+         */
+        void exportFinished(Path filePath, String message);
+    }
+
+    /**
+     * An export that has been submitted, and reports its progress to the listener.
+     */
+    private class Export implements ExportProgress {
+        private final Path filePath;
+        private volatile boolean isCancelled;
+        private int lastReportedCount;
+
+        Export(Path filePath) {
+            this.filePath = filePath;
+        }
+
+        /**
+         * Cancels this export, and returns false if it was already cancelled.
+         */
+        boolean cancel() {
+            boolean wasCancelled = isCancelled;
+            isCancelled = true;
+            return !wasCancelled;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return isCancelled;
+        }
+
+        @Override
+        public void recordWritten(int writtenCount, int totalCount) {
+            int step = Math.max(1, totalCount / PROGRESS_UPDATE_COUNT);
+            if (writtenCount == totalCount || writtenCount - lastReportedCount >= step) {
+                lastReportedCount = writtenCount;
+                listener.exportProgressed(filePath, writtenCount, totalCount);
+            }
+        }
+    }
+}
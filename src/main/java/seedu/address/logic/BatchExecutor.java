@@ -0,0 +1,114 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.BatchResult.LineResult;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Parses and executes a batch of commands against a model, one line at a time and in order.
+ * <p>
+ * Blank lines and lines starting with {@code #} are skipped. Nothing is saved while the batch runs, so the caller
+ * saves the address book once when the batch is done. Lines that would run another batch, or undo or redo changes
+ * (which would reach past the start of the batch), fail without being executed.
+ */
+public class BatchExecutor {
+
+    public static final String COMMENT_MARKER = "#";
+    public static final String MESSAGE_NESTED_RUN = "'" + RunCommand.COMMAND_WORD
+            + "' cannot be used inside a batch of commands.";
+    public static final String MESSAGE_UNDO_REDO_IN_BATCH = "'" + UndoCommand.COMMAND_WORD + "' and '"
+            + RedoCommand.COMMAND_WORD + "' cannot be used inside a batch of commands.";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchExecutor.class);
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    /**
+     * Executes every command in {@code lines} against {@code model}, and returns the result of each.
+     * <p>
+     * If {@code isAtomic} is true, the batch stops at the first command that fails, and the changes of the batch are
+     * discarded, leaving the address book as it was before the batch and nothing to undo. Otherwise, the commands
+     * after a failed command are still executed. The changes made to {@code model} before the batch are committed
+     * first, so that only those of the batch can be discarded.
+     */
+    public BatchResult execute(Model model, List<String> lines, boolean isAtomic) {
+        requireNonNull(model);
+        requireNonNull(lines);
+        long startTime = System.nanoTime();
+        model.commitAddressBook();
+
+        int commandCount = (int) lines.stream().filter(BatchExecutor::isCommand).count();
+        List<LineResult> lineResults = new ArrayList<>(commandCount);
+        boolean isRolledBack = false;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (!isCommand(line)) {
+                continue;
+            }
+
+            LineResult lineResult;
+            try {
+                lineResult = executeLine(model, i + 1, line.trim());
+            } catch (RuntimeException e) {
+                if (isAtomic) {
+                    restore(model);
+                }
+                throw e;
+            }
+            lineResults.add(lineResult);
+            if (!lineResult.isSuccess() && isAtomic) {
+                restore(model);
+                isRolledBack = true;
+                break;
+            }
+        }
+
+        BatchResult batchResult = new BatchResult(lineResults, commandCount, System.nanoTime() - startTime,
+                isRolledBack);
+        logger.info("Batch of " + lines.size() + " lines done: " + batchResult.getSummary());
+        return batchResult;
+    }
+
+    private LineResult executeLine(Model model, int lineNumber, String commandText) {
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            if (command instanceof RunCommand) {
+                return new LineResult(lineNumber, commandText, MESSAGE_NESTED_RUN, false);
+            }
+            if (command instanceof UndoCommand || command instanceof RedoCommand) {
+                return new LineResult(lineNumber, commandText, MESSAGE_UNDO_REDO_IN_BATCH, false);
+            }
+            String feedback = command.execute(model).getFeedbackToUser();
+            return new LineResult(lineNumber, commandText, feedback, true);
+        } catch (ParseException | CommandException e) {
+            return new LineResult(lineNumber, commandText, e.getMessage(), false);
+        }
+    }
+
+    /**
+     * Restores the address book of {@code model} to how it was before the batch, by discarding the changes made
+     * since the batch started.
+     */
+    private static void restore(Model model) {
+        logger.info("Restoring the address book to how it was before the batch");
+        model.discardAddressBookChanges();
+    }
+
+    private static boolean isCommand(String line) {
+        String trimmedLine = line.trim();
+        return !trimmedLine.isEmpty() && !trimmedLine.startsWith(COMMENT_MARKER);
+    }
+}
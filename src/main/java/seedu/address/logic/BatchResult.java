@@ -0,0 +1,183 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the results of executing a batch of commands: the outcome of each line that was executed, and how long
+ * the batch took.
+ */
+public class BatchResult {
+
+    public static final String MESSAGE_SUMMARY = "Executed %1$d of %2$d commands in %3$d ms: %4$d succeeded, "
+            + "%5$d failed.";
+    public static final String MESSAGE_ROLLED_BACK = "Line %1$d failed, so no changes were made.";
+
+    private final List<LineResult> lineResults;
+    private final int commandCount;
+    private final long elapsedNanos;
+    private final boolean isRolledBack;
+
+    /**
+     * Constructs a {@code BatchResult} with the results of the lines executed, out of the {@code commandCount}
+     * commands in the batch.
+     */
+    public BatchResult(List<LineResult> lineResults, int commandCount, long elapsedNanos, boolean isRolledBack) {
+        requireNonNull(lineResults);
+        this.lineResults = List.copyOf(lineResults);
+        this.commandCount = commandCount;
+        this.elapsedNanos = elapsedNanos;
+        this.isRolledBack = isRolledBack;
+    }
+
+    /**
+     * Returns the results of the lines that were executed, in order.
+     */
+    public List<LineResult> getLineResults() {
+        return lineResults;
+    }
+
+    /**
+     * Returns the results of the lines that failed, in order.
+     */
+    public List<LineResult> getFailures() {
+        return lineResults.stream().filter(lineResult -> !lineResult.isSuccess()).toList();
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns true if a line failed in an atomic batch, so that the changes made by the lines before it were undone.
+     */
+    public boolean isRolledBack() {
+        return isRolledBack;
+    }
+
+    /**
+     * Returns a one-line summary of how many commands were executed and how long they took.
+     */
+    public String getSummary() {
+        int failureCount = getFailures().size();
+        String summary = String.format(MESSAGE_SUMMARY, lineResults.size(), commandCount,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), lineResults.size() - failureCount, failureCount);
+        return isRolledBack
+                ? summary + " " + String.format(MESSAGE_ROLLED_BACK, getFailures().get(0).getLineNumber())
+                : summary;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchResult)) {
+            return false;
+        }
+
+        BatchResult otherBatchResult = (BatchResult) other;
+        return lineResults.equals(otherBatchResult.lineResults)
+                && commandCount == otherBatchResult.commandCount
+                && elapsedNanos == otherBatchResult.elapsedNanos
+                && isRolledBack == otherBatchResult.isRolledBack;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lineResults, commandCount, elapsedNanos, isRolledBack);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("lineResults", lineResults)
+                .add("commandCount", commandCount)
+                .add("elapsedNanos", elapsedNanos)
+                .add("isRolledBack", isRolledBack)
+                .toString();
+    }
+
+    /**
+     * Represents the outcome of executing one line of a batch.
+     */
+    public static class LineResult {
+        private final int lineNumber;
+        private final String commandText;
+        private final String message;
+        private final boolean isSuccess;
+
+        /**
+         * Constructs a {@code LineResult} for the command on the given one-based line, with the feedback of the
+         * command if it succeeded, or the error message if it failed.
+         */
+        public LineResult(int lineNumber, String commandText, String message, boolean isSuccess) {
+            requireNonNull(commandText);
+            requireNonNull(message);
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.message = message;
+            this.isSuccess = isSuccess;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public boolean isSuccess() {
+            return isSuccess;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof LineResult)) {
+                return false;
+            }
+
+            LineResult otherLineResult = (LineResult) other;
+            return lineNumber == otherLineResult.lineNumber
+                    && commandText.equals(otherLineResult.commandText)
+                    && message.equals(otherLineResult.message)
+                    && isSuccess == otherLineResult.isSuccess;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, commandText, message, isSuccess);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("lineNumber", lineNumber)
+                    .add("commandText", commandText)
+                    .add("message", message)
+                    .add("isSuccess", isSuccess)
+                    .toString();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,34 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands in order, and saves the address book once when they are done.
+     * A command that fails does not stop the commands after it, unless {@code isAtomic} is true, in which case the
+     * batch stops and the changes made by the commands before it are undone.
+     * @param commandTexts The commands, one per element. Blank elements and comments are skipped.
+     * @return the result of each command executed, and how long the batch took.
+     * @throws CommandException If the address book could not be saved.
+     */
+    BatchResult executeBatch(List<String> commandTexts, boolean isAtomic) throws CommandException;
+
+    /**
+     * Saves changes to the address book on a background thread from now on, instead of while executing commands.
+     * A failed save then no longer fails the command that caused it; its error message is passed to
+     * {@code saveFailureHandler} on the background thread instead.
+     */
+    void enableBackgroundSaving(Consumer<String> saveFailureHandler);
+
+    /**
+     * Exports the address book on a background thread from now on, instead of while executing commands.
+     * The progress and outcome of each export are reported to {@code listener} on the background thread.
+     */
+    void enableBackgroundExports(BackgroundExporter.ExportListener listener);
+
+    /**
+     * Waits for the exports running on the background thread to finish, and stops accepting new ones.
+     */
+    void finishBackgroundExports();
+
     /**
      * Returns the AddressBook.
      *
@@ -30,6 +60,12 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the address book as it was after the last command finished executing.
+     * Unlike the other methods, this is safe to call from any thread while commands are being executed.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
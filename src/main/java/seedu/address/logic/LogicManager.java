@@ -1,8 +1,15 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -14,6 +21,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.PersonMutation;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
@@ -27,19 +35,32 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long NOT_SAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
-    private final AddressBookParser addressBookParser;
+    private AddressBookParser addressBookParser;
+    private final BatchExecutor batchExecutor = new BatchExecutor();
+
+    // Address book version known to be in (or queued for) the data file, or NOT_SAVED if it may be out of date
+    private final AtomicLong savedVersion = new AtomicLong();
+    private Consumer<String> backgroundSaveFailureHandler;
+    private BackgroundExporter backgroundExporter;
+    // Snapshot of the address book after the last command, for other threads to read
+    private volatile ReadOnlyAddressBook publishedSnapshot;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book in {@code model} is assumed to be the one in the data file if that file exists.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedVersion.set(Files.exists(storage.getAddressBookFilePath()) ? model.getAddressBookVersion() : NOT_SAVED);
+        publishedSnapshot = model.getAddressBookSnapshot();
     }
 
     @Override
@@ -48,17 +69,112 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            model.commitAddressBook();
+            publishedSnapshot = model.getAddressBookSnapshot();
+        }
+
+        saveAddressBookIfChanged();
+
+        return commandResult;
+    }
+
+    @Override
+    public BatchResult executeBatch(List<String> commandTexts, boolean isAtomic) throws CommandException {
+        requireNonNull(commandTexts);
+        logger.info("----------------[BATCH][" + commandTexts.size() + " lines" + (isAtomic ? ", atomic" : "") + "]");
+
+        BatchResult batchResult;
+        try {
+            batchResult = batchExecutor.execute(model, commandTexts, isAtomic);
+        } finally {
+            model.commitAddressBook();
+            publishedSnapshot = model.getAddressBookSnapshot();
+        }
+
+        saveAddressBookIfChanged();
+
+        return batchResult;
+    }
+
+    /**
+     * Saves the address book unless it is unchanged since it was last saved, logging why the save was
+     * performed or skipped. When the changes since the last save are known, only those are handed to the storage
+     * to record.
+     */
+    private void saveAddressBookIfChanged() throws CommandException {
+        long currentVersion = model.getAddressBookVersion();
+        long lastSavedVersion = savedVersion.get();
+        if (currentVersion == lastSavedVersion) {
+            logger.info("Skipping save: address book unchanged since version " + lastSavedVersion + " was saved");
+            return;
+        }
+
+        logger.info(lastSavedVersion == NOT_SAVED
+                ? "Saving address book: data file may not reflect version " + currentVersion
+                : "Saving address book: changed from version " + lastSavedVersion + " to " + currentVersion);
+        Optional<List<PersonMutation>> changes = lastSavedVersion == NOT_SAVED
+                ? Optional.empty()
+                : model.getAddressBookChangesSince(lastSavedVersion);
+        if (backgroundSaveFailureHandler != null) {
+            // Recorded before queueing, so that a failure reported before the call returns is not overwritten
+            savedVersion.set(currentVersion);
+            Consumer<IOException> onFailure = e -> handleBackgroundSaveFailure(currentVersion, e);
+            if (changes.isPresent()) {
+                storage.saveAddressBookChangesInBackground(model.getAddressBookSnapshot(), changes.get(), onFailure);
+            } else {
+                storage.saveAddressBookInBackground(model.getAddressBookSnapshot(), onFailure);
+            }
+            return;
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            if (changes.isPresent()) {
+                storage.saveAddressBookChanges(model.getAddressBookSnapshot(), changes.get());
+            } else {
+                storage.saveAddressBook(model.getAddressBook());
+            }
+            savedVersion.set(currentVersion);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
         }
+    }
 
-        return commandResult;
+    /**
+     * Marks the data file as out of date, unless a newer version has been queued for saving since, and reports
+     * the failure.
+     */
+    private void handleBackgroundSaveFailure(long failedVersion, IOException e) {
+        savedVersion.compareAndSet(failedVersion, NOT_SAVED);
+        backgroundSaveFailureHandler.accept(getSaveFailureMessage(e));
+    }
+
+    private static String getSaveFailureMessage(IOException e) {
+        return e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
+    @Override
+    public void enableBackgroundSaving(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        backgroundSaveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void enableBackgroundExports(BackgroundExporter.ExportListener listener) {
+        requireNonNull(listener);
+        backgroundExporter = new BackgroundExporter(listener);
+        addressBookParser = new AddressBookParser(backgroundExporter);
+    }
+
+    @Override
+    public void finishBackgroundExports() {
+        if (backgroundExporter != null) {
+            backgroundExporter.shutdown();
+        }
     }
 
     @Override
@@ -66,6 +182,11 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return publishedSnapshot;
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.logic.BackgroundExporter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Cancels every export that is running or waiting to run in the background.
+ */
+public class CancelExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "cancelexport";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Cancels all exports that have not finished.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Cancelled %1$d export(s).";
+    public static final String MESSAGE_NO_EXPORT = "There are no exports to cancel.";
+
+    private final Optional<BackgroundExporter> exporter;
+
+    /**
+     * Creates a {@code CancelExportCommand} for when exports run while the command that starts them is executed.
+     */
+    public CancelExportCommand() {
+        this.exporter = Optional.empty();
+    }
+
+    /**
+     * Creates a {@code CancelExportCommand} that cancels the exports running on {@code exporter}.
+     */
+    public CancelExportCommand(BackgroundExporter exporter) {
+        requireNonNull(exporter);
+        this.exporter = Optional.of(exporter);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        // without a background exporter, exports finish before the command that starts them returns
+        int cancelledCount = exporter.map(BackgroundExporter::cancelAll).orElse(0);
+        if (cancelledCount == 0) {
+            throw new CommandException(MESSAGE_NO_EXPORT);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, cancelledCount));
+    }
+}
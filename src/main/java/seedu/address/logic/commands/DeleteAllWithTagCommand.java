@@ -34,16 +34,11 @@ public class DeleteAllWithTagCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        int lastFullSize = model.getFilteredPersonList().size();
-
-        model.deleteAllPersons(this.predicate);
+        int deletedCount = model.deleteAllPersons(this.predicate);
 
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        int newFullSize = model.getFilteredPersonList().size();
 
-        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_DELETED_OVERVIEW,
-      lastFullSize - newFullSize));
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_DELETED_OVERVIEW, deletedCount));
     }
 
     @Override
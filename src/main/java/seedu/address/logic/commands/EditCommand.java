@@ -29,6 +29,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Role;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -83,28 +84,15 @@ public class EditCommand extends Command {
         Person personToEdit = lastShownList.get(index.getZeroBased());
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
-        if (hasDuplicate(model, personToEdit, editedPerson)) {
+        try {
+            model.setPerson(personToEdit, editedPerson);
+        } catch (DuplicatePersonException e) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
-
-        model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
 
-    /**
-     * Checks whether editing this person would result in a duplicate in the provided model
-     * @param model model
-     * @param personToEdit The person object from the model to be edited
-     * @param editedPerson The proposed edited person
-     * @return true if the edit will result in a duplicate in the model
-     */
-    private static boolean hasDuplicate(Model model, Person personToEdit, Person editedPerson) {
-        return model.getAddressBook().getPersonList().stream()
-                .filter(p -> p != personToEdit)
-                .anyMatch(p -> p.isSamePerson(editedPerson));
-    }
-
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}.
@@ -121,8 +109,8 @@ public class EditCommand extends Command {
         LocalDateTime updatedLastContacted = editPersonDescriptor.getLastContacted()
                 .orElse(personToEdit.getLastContacted().orElse(null));
 
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedRole,
-                updatedTags, Optional.ofNullable(updatedLastContacted));
+        return new Person(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress,
+                updatedRole, updatedTags, Optional.ofNullable(updatedLastContacted));
     }
 
     @Override
@@ -3,17 +3,23 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
 import java.util.regex.Pattern;
 
+import seedu.address.logic.BackgroundExporter;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.storage.CsvAddressBookStorage;
+import seedu.address.storage.ExportProgress;
 import seedu.address.storage.VcfAddressBookStorage;
 
 /**
  * Exports all contacts to a CSV file, which can then be imported to AB3.
  * vcf file format support will be implemented at a future date.
+ * When created with a {@code BackgroundExporter}, the contacts are exported from a snapshot in the background.
  */
 public class ExportCommand extends Command {
     public static final String COMMAND_WORD = "export";
@@ -27,6 +33,8 @@ public class ExportCommand extends Command {
     public static final String MESSAGE_EXPORT_SUCCESS_VCF = MESSAGE_EXPORT_SUCCESS_CSV
             + "\nNote: Tags are NOT exported in the vcf file format.";
     public static final String MESSAGE_EXPORT_FAILURE = "Failed to export contacts to %1$s due to:\n%2$s";
+    public static final String MESSAGE_EXPORT_STARTED = "Exporting %2$d contacts to %1$s in the background.\n"
+            + "Use '" + CancelExportCommand.COMMAND_WORD + "' to cancel.";
     public static final String MESSAGE_NO_CONTACTS = "There are no contacts to export.";
     public static final String MESSAGE_INVALID_FILENAME =
             "Filename must be 1–255 characters long, not start with a dot, not be empty, \n"
@@ -38,9 +46,23 @@ public class ExportCommand extends Command {
     private static final String FILENAME_REGEX = "^(?!\\.)([a-zA-Z0-9._ -]{1,251})\\.(vcf|csv)$";
 
     private final String filename;
+    private final Optional<BackgroundExporter> exporter;
 
+    /**
+     * Creates an {@code ExportCommand} that exports to {@code filename} while it is executed.
+     */
     public ExportCommand(String filename) {
         this.filename = filename;
+        this.exporter = Optional.empty();
+    }
+
+    /**
+     * Creates an {@code ExportCommand} that exports to {@code filename} on {@code exporter}.
+     */
+    public ExportCommand(String filename, BackgroundExporter exporter) {
+        requireNonNull(exporter);
+        this.filename = filename;
+        this.exporter = Optional.of(exporter);
     }
 
     /**
@@ -62,6 +84,29 @@ public class ExportCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        String relativeFilename = getValidatedRelativeFilename(model);
+        if (exporter.isPresent()) {
+            return startExport(model, relativeFilename, exporter.get());
+        }
+        return new CommandResult(export(model.getAddressBook(), relativeFilename, ExportProgress.NONE));
+    }
+
+    /**
+     * Starts exporting a snapshot of the address book on {@code exporter}, and returns without waiting for it.
+     */
+    private CommandResult startExport(Model model, String relativeFilename, BackgroundExporter exporter) {
+        ReadOnlyAddressBook snapshot = model.getAddressBookSnapshot();
+        Path filePath = Path.of(getAbsoluteExportFilePath(relativeFilename));
+        exporter.submit(filePath, progress -> export(snapshot, relativeFilename, progress));
+        return new CommandResult(String.format(MESSAGE_EXPORT_STARTED, filePath, snapshot.getPersonList().size()));
+    }
+
+    /**
+     * Returns the path of the export file relative to the working directory.
+     *
+     * @throws CommandException if there is nothing to export, or the filename is invalid.
+     */
+    private String getValidatedRelativeFilename(Model model) throws CommandException {
         requireNonNull(filename);
         if (model.getAddressBook().equals(new AddressBook())) {
             throw new CommandException(String.format(MESSAGE_EXPORT_FAILURE,
@@ -71,22 +116,29 @@ public class ExportCommand extends Command {
             throw new CommandException(String.format(MESSAGE_EXPORT_FAILURE,
                     filename, MESSAGE_INVALID_FILENAME));
         }
-        String relativeFilename = EXPORT_DIR_PREFIX + filename;
+        return EXPORT_DIR_PREFIX + filename;
+    }
+
+    /**
+     * Exports {@code addressBook} to the file at {@code relativeFilename}, and returns the message for the user.
+     */
+    private String export(ReadOnlyAddressBook addressBook, String relativeFilename, ExportProgress progress)
+            throws CommandException {
         if (filename.toLowerCase().endsWith(".csv")) {
-            return executeCsv(model, relativeFilename);
+            return exportCsv(addressBook, relativeFilename, progress);
         } else if (filename.toLowerCase().endsWith(".vcf")) {
-            return executeVcf(model, relativeFilename);
+            return exportVcf(addressBook, relativeFilename, progress);
         }
         throw new CommandException(String.format(MESSAGE_EXPORT_FAILURE,
                 filename, MESSAGE_EXPORT_FAILURE));
     }
 
-    private CommandResult executeCsv(Model model, String filename) throws CommandException {
+    private String exportCsv(ReadOnlyAddressBook addressBook, String filename, ExportProgress progress)
+            throws CommandException {
         CsvAddressBookStorage csvStorage = new CsvAddressBookStorage(filename);
         try {
-            csvStorage.saveAddressBook(model.getAddressBook());
-            return new CommandResult(String.format(MESSAGE_EXPORT_SUCCESS_CSV,
-                    getAbsoluteExportFilePath(filename)));
+            csvStorage.saveAddressBook(addressBook, csvStorage.getAddressBookFilePath(), progress);
+            return String.format(MESSAGE_EXPORT_SUCCESS_CSV, getAbsoluteExportFilePath(filename));
         } catch (IOException e) {
             throw new CommandException(String.format(MESSAGE_EXPORT_FAILURE,
                     getAbsoluteExportFilePath(filename),
@@ -94,12 +146,12 @@ public class ExportCommand extends Command {
         }
     }
 
-    private CommandResult executeVcf(Model model, String filename) throws CommandException {
+    private String exportVcf(ReadOnlyAddressBook addressBook, String filename, ExportProgress progress)
+            throws CommandException {
         VcfAddressBookStorage vcfStorage = new VcfAddressBookStorage(filename);
         try {
-            vcfStorage.saveAddressBook(model.getAddressBook());
-            return new CommandResult(String.format(MESSAGE_EXPORT_SUCCESS_VCF,
-                    getAbsoluteExportFilePath(filename)));
+            vcfStorage.saveAddressBook(addressBook, vcfStorage.getAddressBookFilePath(), progress);
+            return String.format(MESSAGE_EXPORT_SUCCESS_VCF, getAbsoluteExportFilePath(filename));
         } catch (IOException e) {
             throw new CommandException(String.format(MESSAGE_EXPORT_FAILURE,
                     getAbsoluteExportFilePath(filename),
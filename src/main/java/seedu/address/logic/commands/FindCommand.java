@@ -6,12 +6,17 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagsContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
@@ -39,14 +44,41 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    /**
+     * Returns the predicate that the persons found satisfy.
+     */
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Optional<Set<Person>> candidates = findCandidates(model, predicate);
+        if (candidates.isPresent()) {
+            model.updateFilteredPersonList(predicate, candidates.get());
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns the persons that may satisfy {@code predicate}, as found by the model's name or tag index, or
+     * {@code Optional.empty()} if no index can narrow the search.
+     */
+    private static Optional<Set<Person>> findCandidates(Model model, Predicate<Person> predicate) {
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            List<String> keywords = ((NameContainsKeywordsPredicate) predicate).getKeywords();
+            return model.getNameSearchCandidates(keywords);
+        } else if (predicate instanceof TagsContainsKeywordsPredicate) {
+            List<String> keywords = ((TagsContainsKeywordsPredicate) predicate).getKeywords();
+            return Optional.of(model.getPersonsWithTagContaining(keywords));
+        }
+        return Optional.empty();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,11 +3,16 @@ package seedu.address.logic.commands;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.CsvParser;
@@ -15,6 +20,7 @@ import seedu.address.logic.parser.VcfParser;
 import seedu.address.model.Model;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.MutationOutcome;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
@@ -31,6 +37,12 @@ import seedu.address.model.tag.Tag;
  *     <li>VCF: vCard format with structured contact fields</li>
  * </ul>
  * Skips duplicate entries and shows error messages for invalid rows.
+ * <p>
+ * Files are streamed. VCF cards are read, validated and queued for the model one at a time. CSV rows are parsed in
+ * chunks of {@code VALIDATION_BATCH_SIZE}, and each chunk is validated in parallel while the next chunk is parsed. The
+ * results of each chunk are then queued for the model in file order. The queued persons are added in batches, so only
+ * a bounded number of contacts is held in memory, and errors and duplicates are reported in the same order as a
+ * contact-by-contact import. At most {@code MAX_REPORTED_ERRORS} errors of each kind are listed in the result.
  */
 public class ImportCommand extends Command {
 
@@ -44,10 +56,17 @@ public class ImportCommand extends Command {
 
     public static final String MESSAGE_CONSTRAINTS = "File name must end with .csv or .vcf";
     public static final String MESSAGE_READ_INPUT_ERROR = "Error reading file due to: ";
+    public static final String MESSAGE_IMPORTED_BEFORE_READ_ERROR = "\n%d contacts were imported before the error. "
+            + "Use '" + UndoCommand.COMMAND_WORD + "' to remove them.";
     public static final String MESSAGE_ERROR_DURING_IMPORT = "Import failed due to the following errors: \n";
     public static final String MESSAGE_EMPTY_FILE = "No contacts were imported. The file has no contacts. "
         + "Please check your file.";
     public static final String MESSAGE_SUCCESS = "Successfully imported %d contacts!";
+    public static final String MESSAGE_MORE_ERRORS = "...and %d more";
+
+    static final int IMPORT_BATCH_SIZE = 1000;
+    static final int VALIDATION_BATCH_SIZE = 4096;
+    static final int MAX_REPORTED_ERRORS = 100;
 
     private static final Logger logger = Logger.getLogger(ImportCommand.class.getName());
 
@@ -61,19 +80,19 @@ public class ImportCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         logger.info("Executing ImportCommand with file: " + filePath);
 
-        List<String> errors = new ArrayList<>();
-        List<Person> importedPersons = parseFile(filePath, errors);
+        ImportBatcher batcher = new ImportBatcher(model);
+        parseFile(filePath, batcher);
+        batcher.flush();
 
-        if (importedPersons.isEmpty() && errors.isEmpty()) {
+        ErrorReport duplicateErrors = batcher.duplicateErrors;
+        ErrorReport errors = batcher.errors;
+        if (batcher.importedCount == 0 && duplicateErrors.isEmpty() && errors.isEmpty()) {
             throw new CommandException(MESSAGE_EMPTY_FILE);
         }
 
-        int startingRowNumber = filePath.toString().toLowerCase().endsWith(".csv") ? 2 : 1;
-        List<String> duplicateErrors = addPersonsToModel(model, importedPersons, startingRowNumber);
-
         StringBuilder resultMessage = new StringBuilder();
 
-        int successfullyImportedCount = importedPersons.size();
+        int successfullyImportedCount = batcher.importedCount;
 
         if (successfullyImportedCount > 0) {
             resultMessage.append(String.format(MESSAGE_SUCCESS, successfullyImportedCount));
@@ -85,7 +104,7 @@ public class ImportCommand extends Command {
             } else {
                 resultMessage.append(MESSAGE_ERROR_DURING_IMPORT);
             }
-            duplicateErrors.forEach(error -> resultMessage.append(error).append("\n"));
+            duplicateErrors.appendTo(resultMessage);
         }
 
         if (!errors.isEmpty()) {
@@ -94,7 +113,7 @@ public class ImportCommand extends Command {
             } else {
                 resultMessage.append(MESSAGE_ERROR_DURING_IMPORT);
             }
-            errors.forEach(error -> resultMessage.append(error).append("\n"));
+            errors.appendTo(resultMessage);
         }
 
 
@@ -106,93 +125,53 @@ public class ImportCommand extends Command {
     }
 
 
-    private List<Person> parseFile(Path filePath, List<String> errors) throws CommandException {
+    /**
+     * Parses the persons in the file at {@code filePath} and passes them to {@code batcher} as they are parsed,
+     * along with the errors of the rows that could not be parsed.
+     *
+     * @throws CommandException if the file cannot be read. The persons of the batches added to the model before the
+     *     failure are kept, and counted in the message.
+     */
+    private void parseFile(Path filePath, ImportBatcher batcher) throws CommandException {
         assert filePath != null : "File path should not be null";
-        assert errors != null : "Errors list should not be null";
+        assert batcher != null : "Batcher should not be null";
 
         try {
             if (filePath.toString().toLowerCase().endsWith(".csv")) {
-                return importCsv(filePath.toString(), errors);
+                ParallelRowValidator validator = new ParallelRowValidator(row -> {
+                    if (row.person != null) {
+                        batcher.add(row.person, "Row " + row.rowNumber + " of CSV: ");
+                    } else {
+                        batcher.errors.add(row.error);
+                    }
+                });
+                CsvParser.streamCsv(filePath.toString(), validator);
+                validator.finish();
             } else if (filePath.toString().toLowerCase().endsWith(".vcf")) {
-                List<Person> persons = VcfParser.parseVcf(filePath.toString());
-                errors.addAll(VcfParser.getLastParseErrors());
-                return persons;
+                VcfParser.streamVcf(filePath.toString(),
+                        person -> batcher.add(person, person.getName().fullName + ": "), batcher.errors::add);
             } else {
                 throw new CommandException("Unsupported file type. Only .csv and .vcf files are supported.");
             }
         } catch (IOException e) {
-            throw new CommandException(MESSAGE_READ_INPUT_ERROR + e.getMessage());
-        }
-    }
-
-
-    private List<String> addPersonsToModel(Model model, List<Person> persons, int startingRowNumber) {
-        assert model != null : "Model should not be null";
-        assert persons != null : "Persons list should not be null";
-        assert startingRowNumber > 0 : "Starting row number should be greater than zero";
-
-        List<String> duplicateErrors = new ArrayList<>();
-        boolean isVcf = filePath.toString().toLowerCase().endsWith(".vcf");
-
-        List<Person> successfullyImportedPersons = new ArrayList<>();
-
-        for (int i = 0; i < persons.size(); i++) {
-            Person person = persons.get(i);
-            assert person != null : "Person object should not be null";
-            int rowNumber = i + startingRowNumber;
-
-            try {
-                model.addPerson(person);
-                successfullyImportedPersons.add(person);
-            } catch (DuplicatePersonException e) {
-                String errorPrefix = isVcf ? person.getName().fullName + ": " : "Row " + rowNumber + " of CSV: ";
-                duplicateErrors.add(errorPrefix + e.getMessage());
+            String message = MESSAGE_READ_INPUT_ERROR + e.getMessage();
+            if (batcher.importedCount > 0) {
+                message += String.format(MESSAGE_IMPORTED_BEFORE_READ_ERROR, batcher.importedCount);
             }
+            throw new CommandException(message);
         }
-
-        persons.clear();
-        persons.addAll(successfullyImportedPersons);
-
-        return duplicateErrors;
     }
 
     /**
-     * Imports a list of persons from a CSV file.
-     *
-     * @param filePath The path to the CSV file to be imported.
-     * @param errors A list to store any errors encountered during the import process.
-     * @return A list of {@code Person} objects parsed from the CSV file.
-     * @throws IOException If an error occurs while reading the CSV file.
+     * Validates the values of the CSV row at {@code rowNumber} and creates the person it describes.
      */
-    public static List<Person> importCsv(String filePath, List<String> errors) throws IOException {
-        assert filePath != null : "File path should not be null";
-        assert !filePath.trim().isEmpty() : "File path should not be empty";
-        assert errors != null : "Errors list should not be null";
-
-        List<Person> persons = new ArrayList<>();
-        List<List<String>> rawData = CsvParser.parseCsv(filePath);
-        assert rawData != null : "Parsed CSV data should not be null";
-
-        for (int i = 0; i < rawData.size(); i++) {
-            List<String> values = rawData.get(i);
-            assert values != null : "Parsed row data should not be null";
-            Person person = createPerson(values, i + 2, errors);
-            if (person != null) {
-                persons.add(person);
-            }
-        }
-        assert persons != null : "Person list should not be null";
-        return persons;
-    }
-
-    private static Person createPerson(List<String> values, int rowNumber, List<String> errors) {
+    private static ValidatedRow validateRow(List<String> values, int rowNumber) {
         assert values != null : "Input values list should not be null";
-        assert errors != null : "Errors list should not be null";
         assert rowNumber > 0 : "Row number should be positive";
 
         if (values.size() < 5) {
-            errors.add("Row " + rowNumber + " of CSV: Missing required fields (Name, Phone, Email, Address, Role).");
-            return null;
+            return ValidatedRow.invalid(rowNumber,
+                    "Row " + rowNumber + " of CSV: Missing required fields (Name, Phone, Email, Address, Role).");
         }
 
         try {
@@ -204,11 +183,10 @@ public class ImportCommand extends Command {
 
             Set<Tag> tags = (values.size() > 5) ? parseTags(values.get(5)) : new HashSet<>();
 
-            return new Person(name, phone, email, address, role, tags, Optional.empty());
+            return ValidatedRow.valid(rowNumber, new Person(name, phone, email, address, role, tags, Optional.empty()));
 
         } catch (IllegalArgumentException e) {
-            errors.add("Row " + rowNumber + " of CSV: " + e.getMessage());
-            return null;
+            return ValidatedRow.invalid(rowNumber, "Row " + rowNumber + " of CSV: " + e.getMessage());
         }
     }
 
@@ -244,4 +222,183 @@ public class ImportCommand extends Command {
     public String toString() {
         return filePath.toString();
     }
+
+    /**
+     * The result of validating a CSV row: either the person it describes, or the error that made it invalid.
+     */
+    private static class ValidatedRow {
+        private final int rowNumber;
+        private final Person person;
+        private final String error;
+
+        private ValidatedRow(int rowNumber, Person person, String error) {
+            this.rowNumber = rowNumber;
+            this.person = person;
+            this.error = error;
+        }
+
+        static ValidatedRow valid(int rowNumber, Person person) {
+            return new ValidatedRow(rowNumber, person, null);
+        }
+
+        static ValidatedRow invalid(int rowNumber, String error) {
+            return new ValidatedRow(rowNumber, null, error);
+        }
+    }
+
+    /**
+     * Validates CSV rows in chunks of {@code VALIDATION_BATCH_SIZE}, each on the common fork-join pool while the next
+     * chunk is parsed, and passes the validated rows to a consumer one at a time in file order.
+     */
+    private static class ParallelRowValidator implements CsvParser.RowHandler {
+        private final Consumer<ValidatedRow> consumer;
+        private List<Integer> rowNumbers = new ArrayList<>(VALIDATION_BATCH_SIZE);
+        // The values of each row, or null for a row that is not valid CSV
+        private List<List<String>> rows = new ArrayList<>(VALIDATION_BATCH_SIZE);
+        // Why each row is not valid CSV, or null for a valid row
+        private List<String> malformedErrors = new ArrayList<>(VALIDATION_BATCH_SIZE);
+        private ForkJoinTask<ValidatedRow[]> pendingValidation;
+
+        ParallelRowValidator(Consumer<ValidatedRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void handle(int rowNumber, List<String> fields) {
+            assert fields != null : "Parsed row data should not be null";
+            queue(rowNumber, fields, null);
+        }
+
+        @Override
+        public void handleMalformed(int rowNumber, String error) {
+            assert error != null : "Error of a malformed row should not be null";
+            queue(rowNumber, null, error);
+        }
+
+        /**
+         * Validates the remaining rows, and passes every row that has not been passed to the consumer yet.
+         */
+        void finish() {
+            awaitPendingValidation();
+            Arrays.stream(validate(rowNumbers, rows, malformedErrors)).forEach(consumer);
+            rowNumbers.clear();
+            rows.clear();
+            malformedErrors.clear();
+        }
+
+        private void queue(int rowNumber, List<String> fields, String malformedError) {
+            rowNumbers.add(rowNumber);
+            rows.add(fields);
+            malformedErrors.add(malformedError);
+            if (rows.size() == VALIDATION_BATCH_SIZE) {
+                awaitPendingValidation();
+                List<Integer> chunkRowNumbers = rowNumbers;
+                List<List<String>> chunkRows = rows;
+                List<String> chunkMalformedErrors = malformedErrors;
+                pendingValidation = ForkJoinPool.commonPool()
+                        .submit(() -> validate(chunkRowNumbers, chunkRows, chunkMalformedErrors));
+                rowNumbers = new ArrayList<>(VALIDATION_BATCH_SIZE);
+                rows = new ArrayList<>(VALIDATION_BATCH_SIZE);
+                malformedErrors = new ArrayList<>(VALIDATION_BATCH_SIZE);
+            }
+        }
+
+        private void awaitPendingValidation() {
+            if (pendingValidation != null) {
+                Arrays.stream(pendingValidation.join()).forEach(consumer);
+                pendingValidation = null;
+            }
+        }
+
+        private static ValidatedRow[] validate(List<Integer> rowNumbers, List<List<String>> rows,
+                List<String> malformedErrors) {
+            ValidatedRow[] validatedRows = new ValidatedRow[rows.size()];
+            IntStream.range(0, rows.size()).parallel().forEach(i -> validatedRows[i] =
+                    validateQueuedRow(rowNumbers.get(i), rows.get(i), malformedErrors.get(i)));
+            return validatedRows;
+        }
+
+        private static ValidatedRow validateQueuedRow(int rowNumber, List<String> fields, String malformedError) {
+            if (malformedError != null) {
+                return ValidatedRow.invalid(rowNumber, "Row " + rowNumber + " of CSV: " + malformedError);
+            }
+            return validateRow(fields, rowNumber);
+        }
+    }
+
+    /**
+     * Adds imported persons to the model in batches of {@code IMPORT_BATCH_SIZE}, so that only one batch of persons
+     * is held at a time, and collects the errors of the import.
+     */
+    private static class ImportBatcher {
+        private final Model model;
+        private final List<Person> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        private final List<String> batchErrorPrefixes = new ArrayList<>(IMPORT_BATCH_SIZE);
+        private final ErrorReport duplicateErrors = new ErrorReport();
+        private final ErrorReport errors = new ErrorReport();
+        private int importedCount;
+
+        ImportBatcher(Model model) {
+            this.model = model;
+        }
+
+        /**
+         * Queues {@code person} to be added to the model, reporting it with {@code errorPrefix} if it is a duplicate.
+         */
+        void add(Person person, String errorPrefix) {
+            assert person != null : "Person object should not be null";
+            batch.add(person);
+            batchErrorPrefixes.add(errorPrefix);
+            if (batch.size() == IMPORT_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * Adds the queued persons to the model.
+         */
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            List<MutationOutcome> outcomes = model.addPersons(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                if (outcomes.get(i) == MutationOutcome.APPLIED) {
+                    importedCount++;
+                } else {
+                    duplicateErrors.add(batchErrorPrefixes.get(i) + DuplicatePersonException.MESSAGE_DUPLICATE_PERSON);
+                }
+            }
+            batch.clear();
+            batchErrorPrefixes.clear();
+        }
+    }
+
+    /**
+     * Keeps the first {@code MAX_REPORTED_ERRORS} errors of an import, and counts the rest.
+     */
+    private static class ErrorReport {
+        private final List<String> reportedErrors = new ArrayList<>();
+        private int omittedCount;
+
+        void add(String error) {
+            if (reportedErrors.size() < MAX_REPORTED_ERRORS) {
+                reportedErrors.add(error);
+            } else {
+                omittedCount++;
+            }
+        }
+
+        boolean isEmpty() {
+            return reportedErrors.isEmpty();
+        }
+
+        void appendTo(StringBuilder message) {
+            reportedErrors.forEach(error -> message.append(error).append("\n"));
+            if (omittedCount > 0) {
+                message.append(String.format(MESSAGE_MORE_ERRORS, omittedCount)).append("\n");
+            }
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.BatchExecutor;
+import seedu.address.logic.BatchResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a file, one per line, and saves the address book once when they are done.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String SCRIPT_DIR_PREFIX = "scripts/";
+    public static final String ATOMIC_FLAG = "--atomic";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in the given file located at "
+            + getScriptsDirAbsolutePath() + ", one command per line.\n"
+            + "Blank lines and lines starting with " + BatchExecutor.COMMENT_MARKER + " are skipped.\n"
+            + "With " + ATOMIC_FLAG + ", no changes are made unless every command succeeds.\n"
+            + "Parameters: [" + ATOMIC_FLAG + "] FILENAME\n"
+            + "Example: " + COMMAND_WORD + " " + ATOMIC_FLAG + " new_vendors.txt";
+
+    public static final String MESSAGE_READ_FAILURE = "Could not read %1$s due to: %2$s";
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d (%2$s): %3$s";
+    public static final String MESSAGE_MORE_FAILURES = "...and %d more";
+
+    static final int MAX_REPORTED_FAILURES = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path filePath;
+    private final boolean isAtomic;
+
+    /**
+     * Creates a {@code RunCommand} that runs the commands in the file at {@code filePath}, atomically if
+     * {@code isAtomic} is true.
+     */
+    public RunCommand(Path filePath, boolean isAtomic) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isAtomic = isAtomic;
+    }
+
+    /**
+     * Returns the absolute filepath of the <code>scripts</code> directory.
+     */
+    public static String getScriptsDirAbsolutePath() {
+        return new java.io.File(SCRIPT_DIR_PREFIX).getAbsolutePath();
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Running commands in " + filePath + (isAtomic ? " atomically" : ""));
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, filePath.toAbsolutePath(), e.getMessage()),
+                    e);
+        }
+
+        BatchResult batchResult = new BatchExecutor().execute(model, lines, isAtomic);
+        String feedback = getFeedback(batchResult);
+        if (batchResult.isRolledBack()) {
+            throw new CommandException(feedback);
+        }
+        return new CommandResult(feedback);
+    }
+
+    /**
+     * Returns the summary of {@code batchResult}, followed by the first few lines that failed.
+     */
+    private static String getFeedback(BatchResult batchResult) {
+        StringBuilder feedback = new StringBuilder(batchResult.getSummary());
+        List<BatchResult.LineResult> failures = batchResult.getFailures();
+        for (int i = 0; i < Math.min(failures.size(), MAX_REPORTED_FAILURES); i++) {
+            BatchResult.LineResult failure = failures.get(i);
+            feedback.append("\n").append(String.format(MESSAGE_FAILED_LINE,
+                    failure.getLineNumber(), failure.getCommandText(), failure.getMessage()));
+        }
+        if (failures.size() > MAX_REPORTED_FAILURES) {
+            feedback.append("\n").append(String.format(MESSAGE_MORE_FAILURES,
+                    failures.size() - MAX_REPORTED_FAILURES));
+        }
+        return feedback.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return filePath.equals(otherRunCommand.filePath)
+                && isAtomic == otherRunCommand.isAtomic;
+    }
+}
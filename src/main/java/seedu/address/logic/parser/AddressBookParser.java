@@ -1,14 +1,18 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.BackgroundExporter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CancelExportCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ContactCommand;
@@ -21,7 +25,10 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -35,6 +42,23 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final Optional<BackgroundExporter> exporter;
+
+    /**
+     * Creates an {@code AddressBookParser} whose export commands export while they are executed.
+     */
+    public AddressBookParser() {
+        this.exporter = Optional.empty();
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose export commands export on, and are cancelled from, {@code exporter}.
+     */
+    public AddressBookParser(BackgroundExporter exporter) {
+        requireNonNull(exporter);
+        this.exporter = Optional.of(exporter);
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -83,7 +107,19 @@ public class AddressBookParser {
             return new HelpCommand();
 
         case ExportCommand.COMMAND_WORD:
-            return new ExportCommandParser().parse(arguments);
+            return exporter.map(ExportCommandParser::new).orElseGet(ExportCommandParser::new).parse(arguments);
+
+        case CancelExportCommand.COMMAND_WORD:
+            return exporter.map(CancelExportCommand::new).orElseGet(CancelExportCommand::new);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(arguments);
 
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
@@ -1,23 +1,51 @@
 package seedu.address.logic.parser;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * A utility class for parsing CSV files into structured data.
  * This parser supports reading CSV files where each line represents a record
- * with fields separated by commas. It also supports quoted values containing commas.
+ * with fields separated by commas. It also supports quoted values containing commas,
+ * line breaks and escaped quotes ({@code ""}), as described in RFC 4180.
  *
  * The CSV file must begin with a header line matching:
  * "Name,Phone,Email,Address,Role,Tags"
  *
- * Throws an {@code IOException} if the file reading fails or if the header is invalid.
+ * Throws an {@code IOException} if the file reading fails or if the header is invalid. A row that is not valid CSV
+ * (e.g. a quoted value that is never closed) is reported as an error of that row.
+ *
+ * Files can be streamed row by row with {@link #streamCsv(String, RowHandler)}, which only ever holds the row being
+ * parsed in memory. Rows are split by a {@link CsvTokenizer}.
  */
 public class CsvParser {
 
+    /**
+     * Handles the rows of a CSV file as they are parsed.
+     */
+    public interface RowHandler {
+        /**
+         * Handles the row with the given values.
+         *
+         * @param rowNumber The line number at which the row starts in the file, where the header is row 1.
+         * @param fields The values of the row.
+         */
+        void handle(int rowNumber, List<String> fields);
+
+        /**
+         * Handles a row that is not valid CSV, and so has no values.
+         *
+         * @param rowNumber The line number at which the row starts in the file, where the header is row 1.
+         * @param error Why the row is not valid CSV.
+         */
+        void handleMalformed(int rowNumber, String error);
+    }
+
     private static final String EXPECTED_HEADER = "Name,Phone,Email,Address,Role,Tags";
     private static final String[] EXPECTED_HEADER_PARTS = EXPECTED_HEADER.split(",");
 
@@ -27,75 +55,65 @@ public class CsvParser {
      *
      * @param filePath The path to the CSV file.
      * @return A list of rows, where each row is a list of string values.
-     * @throws IOException If an error occurs while reading the file.
+     * @throws IOException If an error occurs while reading the file, or a row is not valid CSV.
      */
     public static List<List<String>> parseCsv(String filePath) throws IOException {
-        assert filePath != null && !filePath.trim().isEmpty() : "File path should not be null or empty";
         List<List<String>> data = new ArrayList<>();
-
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String headerLine = br.readLine();
-
-            if (headerLine == null || headerLine.trim().isEmpty()) {
-                throw new IOException("Invalid CSV Header. The file is empty or missing a header.");
+        List<String> errors = new ArrayList<>();
+        streamCsv(filePath, new RowHandler() {
+            @Override
+            public void handle(int rowNumber, List<String> fields) {
+                data.add(fields);
             }
-            assert headerLine != null : "Header line should not be null";
-            assert !headerLine.trim().isEmpty() : "Header line should not be empty";
 
-            String line;
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                assert line != null : "Read line from CSV should not be null";
-
-                if (line.isEmpty()) {
-                    continue;
-                }
-
-                List<String> parsedLine = parseLine(line);
-                boolean isAllFieldsEmpty = parsedLine.stream().allMatch(String::isEmpty);
-                if (isAllFieldsEmpty) {
-                    continue;
-                }
-                data.add(parsedLine);
+            @Override
+            public void handleMalformed(int rowNumber, String error) {
+                errors.add("Row " + rowNumber + " of CSV: " + error);
             }
+        });
+        if (!errors.isEmpty()) {
+            throw new IOException(errors.get(0));
         }
-
         return data;
     }
 
     /**
-     * Parses a single line from a CSV file into a list of string values.
-     * Handles quoted values correctly, ensuring that commas inside quotes are not treated as separators.
+     * Parses a CSV file one row at a time, passing each row that has any values, or is not valid CSV, to
+     * {@code handler} before the next row is read.
      *
-     * @param line The CSV line to parse.
-     * @return A list of string values extracted from the line.
+     * @param filePath The path to the CSV file.
+     * @param handler The handler of the parsed rows.
+     * @throws IOException If an error occurs while reading the file.
      */
-    private static List<String> parseLine(String line) {
-        assert line != null : "Line to parse should not be null";
+    public static void streamCsv(String filePath, RowHandler handler) throws IOException {
+        assert filePath != null && !filePath.trim().isEmpty() : "File path should not be null or empty";
+        assert handler != null : "Row handler should not be null";
 
-        List<String> fields = new ArrayList<>();
-        StringBuilder sb = new StringBuilder();
-        boolean inQuotes = false;
+        try (CsvTokenizer tokenizer = new CsvTokenizer(
+                new InputStreamReader(new FileInputStream(filePath), StandardCharsets.UTF_8))) {
+            if (!tokenizer.nextRecord() || tokenizer.isRecordBlank()) {
+                throw new IOException("Invalid CSV Header. The file is empty or missing a header.");
+            }
 
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
+            while (tokenizer.nextRecord()) {
+                Optional<String> error = tokenizer.getRecordError();
+                if (error.isPresent()) {
+                    handler.handleMalformed(tokenizer.getRecordLineNumber(), error.get());
+                    continue;
+                }
+                if (tokenizer.isRecordBlank()) {
+                    continue;
+                }
 
-            if (c == '"') {
-                inQuotes = !inQuotes;
-            } else if (c == ',' && !inQuotes) {
-                fields.add(sb.toString().trim());
-                sb.setLength(0);
-            } else {
-                sb.append(c);
+                List<String> fields = new ArrayList<>(tokenizer.getFieldCount());
+                for (int i = 0; i < tokenizer.getFieldCount(); i++) {
+                    fields.add(tokenizer.getField(i).trim());
+                }
+                handler.handle(tokenizer.getRecordLineNumber(), fields);
             }
         }
-
-        fields.add(sb.toString().trim());
-
-        return fields;
     }
 
-
     public static void main(String[] args) {
         if (args.length == 0) {
             System.err.println("Usage: java CsvParser <path-to-csv-file>");
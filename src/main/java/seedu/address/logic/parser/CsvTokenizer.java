@@ -0,0 +1,413 @@
+package seedu.address.logic.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Splits CSV text into records and fields following RFC 4180, scanning the text only once.
+ * <p>
+ * Fields are separated by commas and records by line breaks ({@code CRLF}, {@code LF} or {@code CR}). A field
+ * that starts with a double quote is quoted: it ends at the next lone double quote, may contain commas and line
+ * breaks, and represents a double quote as two double quotes. Spaces and tabs around a quoted field are ignored.
+ * <p>
+ * The tokenizer only records where each field of the current record starts and ends in its char buffer; a
+ * {@code String} is created only when a field is asked for with {@link #getField(int)}. Text read from a
+ * {@code Reader} is scanned in a buffer that is reused for every record, and only grows to hold a record that is
+ * larger than it, up to {@link #MAX_RECORD_LENGTH} chars. Text in an array-backed {@code CharBuffer} is scanned in
+ * place, without being copied.
+ * <p>
+ * A record that is not valid CSV does not stop the tokenizer: it is returned with an error (see
+ * {@link #getRecordError()}), and tokenizing carries on from the next record, if any. A record read from a
+ * {@code Reader} that is longer than the maximum record length is returned with an error and no fields, and
+ * tokenizing carries on after the next line break outside quotes, so that e.g. a quote that is never closed cannot
+ * make the tokenizer hold the rest of the text.
+ */
+public class CsvTokenizer implements Closeable {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Quoted field is not closed";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "Unexpected text after closing quote";
+    public static final int MAX_RECORD_LENGTH = 1024 * 1024;
+    public static final String MESSAGE_RECORD_TOO_LONG = "Row is longer than " + MAX_RECORD_LENGTH + " characters";
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_FIELD_CAPACITY = 8;
+    private static final int END_OF_INPUT = -1;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private char[] buffer;
+    private int position;
+    private int limit;
+    private int lineNumber = 1;
+    private boolean isAtStartOfText = true;
+
+    private int recordStart;
+    private int recordLineNumber;
+    private String recordError;
+    private int fieldCount;
+    // Offsets of the fields of the current record, relative to recordStart
+    private int[] fieldStarts = new int[INITIAL_FIELD_CAPACITY];
+    private int[] fieldEnds = new int[INITIAL_FIELD_CAPACITY];
+    private boolean[] fieldHasEscapedQuotes = new boolean[INITIAL_FIELD_CAPACITY];
+
+    /**
+     * Creates a tokenizer that reads its text from {@code reader} through a buffer.
+     */
+    public CsvTokenizer(Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a tokenizer that reads its text from {@code reader} through a buffer of {@code bufferSize} chars.
+     */
+    public CsvTokenizer(Reader reader, int bufferSize) {
+        this(reader, bufferSize, MAX_RECORD_LENGTH);
+    }
+
+    /**
+     * Creates a tokenizer that reads its text from {@code reader} through a buffer of {@code bufferSize} chars, and
+     * skips records longer than {@code maxRecordLength} chars.
+     */
+    CsvTokenizer(Reader reader, int bufferSize, int maxRecordLength) {
+        assert reader != null : "Reader should not be null";
+        assert bufferSize > 0 : "Buffer size should be positive";
+        assert maxRecordLength > 0 : "Maximum record length should be positive";
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * Creates a tokenizer over the remaining text of {@code text}. The text is scanned in place if the buffer is
+     * backed by an array, and copied once otherwise.
+     */
+    public CsvTokenizer(CharBuffer text) {
+        assert text != null : "Text should not be null";
+        this.reader = null;
+        this.maxRecordLength = Integer.MAX_VALUE;
+        if (text.hasArray()) {
+            buffer = text.array();
+            position = text.arrayOffset() + text.position();
+            limit = text.arrayOffset() + text.limit();
+        } else {
+            buffer = text.toString().toCharArray();
+            limit = buffer.length;
+        }
+    }
+
+    /**
+     * Advances to the next record.
+     *
+     * @return false if there are no more records.
+     * @throws IOException if the text cannot be read.
+     */
+    public boolean nextRecord() throws IOException {
+        fieldCount = 0;
+        recordError = null;
+        recordStart = position;
+        if (isAtStartOfText) {
+            isAtStartOfText = false;
+            if (peek() == BYTE_ORDER_MARK) {
+                position++;
+                recordStart = position;
+            }
+        }
+        if (peek() == END_OF_INPUT) {
+            return false;
+        }
+
+        recordLineNumber = lineNumber;
+        try {
+            while (readField() == ',') {
+                // keep reading the fields of this record
+            }
+        } catch (RecordTooLongException e) {
+            skipRestOfRecord();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of fields in the current record.
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Returns the line number at which the current record starts, where the first line is 1.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    /**
+     * Returns why the current record is not valid CSV, or {@code Optional.empty()} if it is. The fields of an invalid
+     * record are only its text split as far as it could be.
+     */
+    public Optional<String> getRecordError() {
+        return Optional.ofNullable(recordError);
+    }
+
+    /**
+     * Returns the value of the field at {@code index} in the current record, without enclosing quotes and with
+     * escaped quotes unescaped.
+     */
+    public String getField(int index) {
+        checkFieldIndex(index);
+        int start = recordStart + fieldStarts[index];
+        int end = recordStart + fieldEnds[index];
+        if (!fieldHasEscapedQuotes[index]) {
+            return new String(buffer, start, end - start);
+        }
+
+        StringBuilder value = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            value.append(buffer[i]);
+            if (buffer[i] == '"') {
+                i++; // skip the second quote of the escaped pair
+            }
+        }
+        return value.toString();
+    }
+
+    /**
+     * Returns true if the field at {@code index} in the current record is empty or only has whitespace.
+     */
+    public boolean isFieldBlank(int index) {
+        checkFieldIndex(index);
+        for (int i = recordStart + fieldStarts[index]; i < recordStart + fieldEnds[index]; i++) {
+            if (!Character.isWhitespace(buffer[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if every field of the current record is blank.
+     */
+    public boolean isRecordBlank() {
+        for (int i = 0; i < fieldCount; i++) {
+            if (!isFieldBlank(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads the field at the current position and the separator after it.
+     *
+     * @return {@code ','} if the record has more fields, or any other value if the record has ended.
+     */
+    private int readField() throws IOException {
+        int start = position - recordStart;
+        int c = peek();
+        while (c == ' ' || c == '\t') {
+            position++;
+            c = peek();
+        }
+        if (c != '"') {
+            while (c != ',' && c != '\n' && c != '\r' && c != END_OF_INPUT) {
+                position++;
+                c = peek();
+            }
+            addField(start, position - recordStart, false);
+            return readSeparator(c);
+        }
+
+        position++;
+        int contentStart = position - recordStart;
+        boolean hasEscapedQuotes = false;
+        while (true) {
+            c = peek();
+            if (c == END_OF_INPUT) {
+                // The quote runs to the end of the text, so this is the last record
+                recordError = MESSAGE_UNTERMINATED_QUOTE;
+                addField(contentStart, position - recordStart, hasEscapedQuotes);
+                return END_OF_INPUT;
+            }
+            position++;
+            if (c == '"') {
+                if (peek() != '"') {
+                    break;
+                }
+                position++;
+                hasEscapedQuotes = true;
+            } else if (c == '\n' || (c == '\r' && peek() != '\n')) {
+                lineNumber++;
+            }
+        }
+        addField(contentStart, position - 1 - recordStart, hasEscapedQuotes);
+
+        c = peek();
+        while (c == ' ' || c == '\t') {
+            position++;
+            c = peek();
+        }
+        if (c != ',' && c != '\n' && c != '\r' && c != END_OF_INPUT) {
+            // Skip the rest of the field, so that the next field or record is read from where it starts
+            recordError = MESSAGE_TEXT_AFTER_QUOTE;
+            while (c != ',' && c != '\n' && c != '\r' && c != END_OF_INPUT) {
+                position++;
+                c = peek();
+            }
+        }
+        return readSeparator(c);
+    }
+
+    /**
+     * Consumes {@code c}, the character that ends a field, and returns it, treating every kind of line break as
+     * {@code '\n'}.
+     */
+    private int readSeparator(int c) throws IOException {
+        if (c == END_OF_INPUT) {
+            return c;
+        }
+
+        position++;
+        if (c == '\r' && peek() == '\n') {
+            position++;
+        }
+        if (c != ',') {
+            lineNumber++;
+            return '\n';
+        }
+        return c;
+    }
+
+    /**
+     * Skips the current record, which is too long to be held, up to and including the next line break outside
+     * quotes, and marks the record as invalid with no fields. The record is scanned again from its start, and none
+     * of the skipped text is kept.
+     */
+    private void skipRestOfRecord() throws IOException {
+        recordError = MESSAGE_RECORD_TOO_LONG;
+        fieldCount = 0;
+        position = recordStart;
+        lineNumber = recordLineNumber;
+        boolean isInQuotes = false;
+        boolean isAfterQuoteInQuotes = false;
+        boolean isAfterCarriageReturn = false;
+        boolean isAtFieldStart = true;
+        while (true) {
+            recordStart = position;
+            int c = peek();
+            if (c == END_OF_INPUT) {
+                return;
+            }
+            position++;
+            if (isAfterQuoteInQuotes) {
+                isAfterQuoteInQuotes = false;
+                if (c == '"') {
+                    continue; // the second quote of an escaped pair
+                }
+                isInQuotes = false;
+            }
+            if (isInQuotes) {
+                isAfterQuoteInQuotes = c == '"';
+                if (c == '\r' || (c == '\n' && !isAfterCarriageReturn)) {
+                    lineNumber++;
+                }
+                isAfterCarriageReturn = c == '\r';
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    position++;
+                }
+                lineNumber++;
+                return;
+            } else if (c == '"' && isAtFieldStart) {
+                isInQuotes = true;
+                isAfterCarriageReturn = false;
+            } else if (c == ',') {
+                isAtFieldStart = true;
+            } else if (c != ' ' && c != '\t') {
+                isAtFieldStart = false;
+            }
+        }
+    }
+
+    private void addField(int start, int end, boolean hasEscapedQuotes) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+            fieldHasEscapedQuotes = Arrays.copyOf(fieldHasEscapedQuotes, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldHasEscapedQuotes[fieldCount] = hasEscapedQuotes;
+        fieldCount++;
+    }
+
+    /**
+     * Returns the character at the current position without consuming it, reading more text if needed, or
+     * {@code END_OF_INPUT} if there is no more text.
+     */
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return END_OF_INPUT;
+        }
+        return buffer[position];
+    }
+
+    /**
+     * Reads more text into the buffer, first moving the current record to the front of the buffer (or into a larger
+     * buffer if it fills the whole buffer) so that its field offsets stay valid.
+     *
+     * @return false if there is no more text.
+     * @throws RecordTooLongException if the current record is already as long as a record can be.
+     */
+    private boolean fill() throws IOException {
+        if (reader == null) {
+            return false;
+        }
+
+        int recordLength = limit - recordStart;
+        if (recordLength >= maxRecordLength) {
+            throw new RecordTooLongException();
+        }
+        char[] target = recordLength == buffer.length
+                ? new char[(int) Math.min(buffer.length * 2L, maxRecordLength)]
+                : buffer;
+        System.arraycopy(buffer, recordStart, target, 0, recordLength);
+        buffer = target;
+        position -= recordStart;
+        recordStart = 0;
+        limit = recordLength;
+
+        int read;
+        do {
+            read = reader.read(buffer, limit, buffer.length - limit);
+        } while (read == 0);
+        if (read == END_OF_INPUT) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    private void checkFieldIndex(int index) {
+        if (index < 0 || index >= fieldCount) {
+            throw new IndexOutOfBoundsException("Field " + index + " of a record with " + fieldCount + " fields");
+        }
+    }
+
+    /**
+     * Signals that the current record is longer than the maximum record length.
+     */
+    private static class RecordTooLongException extends IOException {
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.Optional;
+
+import seedu.address.logic.BackgroundExporter;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -10,6 +13,24 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Parses input arguments and creates a new ExportCommand object
  */
 public class ExportCommandParser implements Parser<ExportCommand> {
+
+    private final Optional<BackgroundExporter> exporter;
+
+    /**
+     * Creates an {@code ExportCommandParser} whose commands export while they are executed.
+     */
+    public ExportCommandParser() {
+        this.exporter = Optional.empty();
+    }
+
+    /**
+     * Creates an {@code ExportCommandParser} whose commands export on {@code exporter}.
+     */
+    public ExportCommandParser(BackgroundExporter exporter) {
+        requireNonNull(exporter);
+        this.exporter = Optional.of(exporter);
+    }
+
     @Override
     public ExportCommand parse(String userInput) throws ParseException {
         requireNonNull(userInput);
@@ -18,6 +39,7 @@ public class ExportCommandParser implements Parser<ExportCommand> {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
         }
-        return new ExportCommand(trimmedFilename);
+        return exporter.map(backgroundExporter -> new ExportCommand(trimmedFilename, backgroundExporter))
+                .orElseGet(() -> new ExportCommand(trimmedFilename));
     }
 }
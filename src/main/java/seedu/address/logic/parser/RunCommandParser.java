@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String INVALID_PATH_MESSAGE = "File name cannot contain '/' or '\\'.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String filename = args.trim();
+        boolean isAtomic = filename.startsWith(RunCommand.ATOMIC_FLAG + " ");
+        if (isAtomic) {
+            filename = filename.substring(RunCommand.ATOMIC_FLAG.length()).trim();
+        }
+
+        if (filename.isEmpty() || filename.equals(RunCommand.ATOMIC_FLAG)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        if (filename.contains("/") || filename.contains("\\")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, INVALID_PATH_MESSAGE));
+        }
+
+        return new RunCommand(Paths.get(RunCommand.SCRIPT_DIR_PREFIX + filename), isAtomic);
+    }
+}
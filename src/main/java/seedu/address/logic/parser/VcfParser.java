@@ -6,9 +6,10 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-import ezvcard.Ezvcard;
 import ezvcard.VCard;
+import ezvcard.io.text.VCardReader;
 import ezvcard.property.FormattedName;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -19,88 +20,70 @@ import seedu.address.model.person.Role;
 
 /**
  * Parses VCF files using the ez-vcard library and returns a list of Person objects.
+ *
+ * Files are read one card at a time with {@link #streamVcf(String, Consumer, Consumer)}, and each card is converted
+ * and validated as soon as it is read, so only one card is held in memory at a time.
  */
 public class VcfParser {
 
-    private static List<String> lastParseErrors = new ArrayList<>();
-
     /**
-     * Parses the given .vcf file into a list of Person objects.
+     * Parses the given .vcf file one card at a time, passing the person of each valid card to {@code personHandler}
+     * and the errors of each invalid card to {@code errorHandler} before the next card is read.
      *
      * @param filePath The path to the VCF file.
-     * @return A list of parsed Person objects.
+     * @param personHandler The handler of the parsed persons.
+     * @param errorHandler The handler of the errors of the contacts that could not be parsed.
      * @throws IOException If reading the file fails.
      */
-    public static List<Person> parseVcf(String filePath) throws IOException {
-        lastParseErrors.clear();
-        List<Person> persons = new ArrayList<>();
-        List<String> errors = new ArrayList<>();
-        List<VCard> vcards;
+    public static void streamVcf(String filePath, Consumer<Person> personHandler, Consumer<String> errorHandler)
+            throws IOException {
         assert filePath != null : "File path should not be null";
-
-        try {
-            vcards = Ezvcard.parse(new File(filePath)).all();
+        assert personHandler != null : "Person handler should not be null";
+        assert errorHandler != null : "Error handler should not be null";
+
+        try (VCardReader reader = new VCardReader(new File(filePath))) {
+            int rowNumber = 0;
+            VCard vcard;
+            while ((vcard = reader.readNext()) != null) {
+                rowNumber++;
+                parseCard(vcard, rowNumber, personHandler, errorHandler);
+            }
         } catch (IOException e) {
             throw new IOException("Failed to read VCF file: " + e.getMessage(), e);
         }
+    }
 
-        for (int i = 0; i < vcards.size(); i++) {
-            VCard vcard = vcards.get(i);
-            int rowNumber = i + 1;
-            String fullName = "";
-            List<String> contactErrors = new ArrayList<>();
+    private static void parseCard(VCard vcard, int rowNumber, Consumer<Person> personHandler,
+                                  Consumer<String> errorHandler) {
+        String fullName = "";
+        List<String> contactErrors = new ArrayList<>();
 
-            try {
-                fullName = parseName(vcard, rowNumber, contactErrors);
-            } catch (Exception e) {
-                contactErrors.add("Error parsing name - " + e.getMessage());
-            }
+        try {
+            fullName = parseName(vcard, rowNumber, contactErrors);
+        } catch (Exception e) {
+            contactErrors.add("Error parsing name - " + e.getMessage());
+        }
 
-            Result result = getResult(fullName, rowNumber, vcard, contactErrors);
-
-            // Only create and add the Person if there are no errors
-            if (contactErrors.isEmpty()) {
-                try {
-                    persons.add(new Person(new Name(fullName), new Phone(result.phoneText()),
-                            new Email(result.emailText()), new Address(result.addressText()),
-                            new Role(result.roleText()), new HashSet<>(), Optional.empty()));
-                } catch (Exception e) {
-                    contactErrors.add("Error creating person - " + e.getMessage());
-                }
-            }
+        Result result = getResult(fullName, rowNumber, vcard, contactErrors);
 
-            // Add all errors for this contact to the global errors list
-            for (String error : contactErrors) {
-                errors.add(result.contactIdentifier() + ": " + error);
+        // Only create and pass on the Person if there are no errors
+        Person person = null;
+        if (contactErrors.isEmpty()) {
+            try {
+                person = new Person(new Name(fullName), new Phone(result.phoneText()),
+                        new Email(result.emailText()), new Address(result.addressText()),
+                        new Role(result.roleText()), new HashSet<>(), Optional.empty());
+            } catch (Exception e) {
+                contactErrors.add("Error creating person - " + e.getMessage());
             }
         }
 
-        // Store errors in a static field for retrieval by ImportCommand
-        if (!errors.isEmpty()) {
-            storeErrors(errors);
+        if (person != null) {
+            personHandler.accept(person);
+        }
+        for (String error : contactErrors) {
+            errorHandler.accept(result.contactIdentifier() + ": " + error);
         }
-
-        return persons;
-    }
-
-
-    /**
-     * Stores the errors from the last parse operation.
-     *
-     * @param errors The errors to store.
-     */
-    private static void storeErrors(List<String> errors) {
-        lastParseErrors.clear();
-        lastParseErrors.addAll(errors);
-    }
-
-    /**
-     * Gets the errors from the last parse operation.
-     *
-     * @return The errors from the last parse operation.
-     */
-    public static List<String> getLastParseErrors() {
-        return new ArrayList<>(lastParseErrors);
     }
 
     private static Result getResult(String fullName, int rowNumber, VCard vcard, List<String> contactErrors) {
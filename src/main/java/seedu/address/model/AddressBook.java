@@ -1,13 +1,29 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.MutationOutcome;
+import seedu.address.model.person.NameTrigramIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -16,7 +32,21 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** The maximum number of changes kept in the mutation log. */
+    public static final int MAX_LOGGED_MUTATIONS = 10_000;
+
     private final UniquePersonList persons;
+    private final NameTrigramIndex nameIndex;
+    private final TagIndex tagIndex;
+
+    // Incremented by every operation that changes the persons in the address book
+    private long version;
+    // Written by whichever thread last took a snapshot, which need not be the one that changes this address book
+    private volatile Snapshot lastSnapshot;
+
+    // The changes made since mutationLogStartVersion, each tagged with the version it produced
+    private final Deque<LoggedMutation> mutationLog = new ArrayDeque<>();
+    private long mutationLogStartVersion;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -27,6 +57,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        nameIndex = new NameTrigramIndex();
+        tagIndex = new TagIndex();
     }
 
     public AddressBook() {}
@@ -46,7 +78,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        PersistentList<Person> personsBefore = this.persons.asPersistentList();
         this.persons.setPersons(persons);
+        nameIndex.reset(persons);
+        tagIndex.reset(persons);
+        version++;
+        clearMutationLog();
+        recordChange(AddressBookChange.replacedAll(personsBefore, this.persons.asPersistentList()));
     }
 
     /**
@@ -74,6 +112,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        nameIndex.add(p);
+        tagIndex.add(p);
+        recordMutations(List.of(PersonMutation.add(p)));
+        recordChange(AddressBookChange.added(List.of(persons.asPersistentList().size() - 1), List.of(p)));
     }
 
     /**
@@ -84,7 +126,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        Person replaced = persons.setPerson(target, editedPerson);
+        nameIndex.remove(replaced);
+        nameIndex.add(editedPerson);
+        tagIndex.remove(replaced);
+        tagIndex.add(editedPerson);
+        recordMutations(List.of(PersonMutation.set(replaced, editedPerson)));
+        recordChange(AddressBookChange.replaced(List.of(PersonMutation.set(replaced, editedPerson))));
     }
 
     /**
@@ -92,11 +140,267 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        int position = persons.indexOf(key);
+        Person removed = persons.remove(key);
+        nameIndex.remove(removed);
+        tagIndex.remove(removed);
+        recordMutations(List.of(PersonMutation.remove(removed)));
+        recordChange(AddressBookChange.removed(List.of(position), List.of(removed)));
+    }
+
+    /**
+     * Adds every person in {@code toAdd} that does not have the same identity as a person already in the address
+     * book or earlier in {@code toAdd}, firing a single change of the person list.
+     *
+     * @return the outcome for each person in {@code toAdd}, in the same order.
+     */
+    public List<MutationOutcome> addPersons(List<Person> toAdd) {
+        requireNonNull(toAdd);
+        int sizeBefore = persons.asPersistentList().size();
+        List<MutationOutcome> outcomes = persons.addAll(toAdd);
+        List<PersonMutation> applied = new ArrayList<>();
+        for (int i = 0; i < toAdd.size(); i++) {
+            if (outcomes.get(i) == MutationOutcome.APPLIED) {
+                nameIndex.add(toAdd.get(i));
+                tagIndex.add(toAdd.get(i));
+                applied.add(PersonMutation.add(toAdd.get(i)));
+            }
+        }
+        recordMutations(applied);
+        if (!applied.isEmpty()) {
+            List<Integer> positions = IntStream.range(sizeBefore, sizeBefore + applied.size()).boxed().toList();
+            recordChange(AddressBookChange.added(positions,
+                    applied.stream().map(PersonMutation::getPerson).toList()));
+        }
+        return outcomes;
+    }
+
+    /**
+     * Replaces each target person (key) in {@code replacements} with its edited person (value), firing a single
+     * change of the person list. Replacements whose target does not exist, or whose edited person would duplicate
+     * another person in the address book, are skipped.
+     *
+     * @return the outcome for each target in {@code replacements}.
+     */
+    public Map<Person, MutationOutcome> setPersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        // A replacement can only be applied to the person its target resolves to before the batch starts, as any
+        // earlier replacement that touches that person makes its target unresolvable or its edit a duplicate.
+        Map<Person, Person> existingPersons = new HashMap<>();
+        replacements.keySet().forEach(target -> persons.find(target)
+                .ifPresent(existing -> existingPersons.put(target, existing)));
+
+        Map<Person, MutationOutcome> outcomes = persons.setAll(replacements);
+        List<PersonMutation> applied = new ArrayList<>();
+        outcomes.forEach((target, outcome) -> {
+            if (outcome == MutationOutcome.APPLIED) {
+                Person replaced = existingPersons.get(target);
+                nameIndex.remove(replaced);
+                tagIndex.remove(replaced);
+                nameIndex.add(replacements.get(target));
+                tagIndex.add(replacements.get(target));
+                applied.add(PersonMutation.set(replaced, replacements.get(target)));
+            }
+        });
+        recordMutations(applied);
+        if (!applied.isEmpty()) {
+            recordChange(AddressBookChange.replaced(applied));
+        }
+        return outcomes;
+    }
+
+    /**
+     * Removes every person in {@code keys} from this {@code AddressBook}, firing a single change of the person list.
+     * Persons that do not exist in the address book are skipped.
+     *
+     * @return the outcome for each person in {@code keys}, in the same order.
+     */
+    public List<MutationOutcome> removePersons(List<Person> keys) {
+        requireNonNull(keys);
+        List<Person> existingPersons = keys.stream()
+                .map(key -> persons.find(key).orElse(null))
+                .toList();
+        List<Integer> existingPositions = keys.stream().map(persons::indexOf).toList();
+
+        List<MutationOutcome> outcomes = persons.removeAll(keys);
+        List<PersonMutation> applied = new ArrayList<>();
+        SortedMap<Integer, Person> removedByPosition = new TreeMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (outcomes.get(i) == MutationOutcome.APPLIED) {
+                nameIndex.remove(existingPersons.get(i));
+                tagIndex.remove(existingPersons.get(i));
+                applied.add(PersonMutation.remove(existingPersons.get(i)));
+                removedByPosition.put(existingPositions.get(i), existingPersons.get(i));
+            }
+        }
+        recordMutations(applied);
+        if (!applied.isEmpty()) {
+            recordChange(AddressBookChange.removed(new ArrayList<>(removedByPosition.keySet()),
+                    new ArrayList<>(removedByPosition.values())));
+        }
+        return outcomes;
+    }
+
+    /**
+     * Inserts each person in {@code toInsert} at the position given for it in {@code positions}, which are the
+     * positions the persons will have once all of them are inserted, in ascending order, firing a single change of
+     * the person list. Used to put persons back where they were when undoing their removal.
+     *
+     * @throws seedu.address.model.person.exceptions.DuplicatePersonException if a person has the same identity as
+     *     another person in the address book or in {@code toInsert}, in which case nothing is inserted.
+     */
+    void insertPersons(List<Integer> positions, List<Person> toInsert) {
+        requireAllNonNull(positions, toInsert);
+        int sizeBefore = persons.asPersistentList().size();
+        persons.insertAll(positions, toInsert);
+        toInsert.forEach(nameIndex::add);
+        toInsert.forEach(tagIndex::add);
+
+        boolean isAppend = positions.isEmpty() || positions.get(0) == sizeBefore;
+        if (isAppend) {
+            recordMutations(toInsert.stream().map(PersonMutation::add).toList());
+        } else {
+            // The mutation log can only describe persons added to the end
+            version++;
+            clearMutationLog();
+        }
+        if (!toInsert.isEmpty()) {
+            recordChange(AddressBookChange.added(positions, toInsert));
+        }
+    }
+
+    /**
+     * Returns the position in the persons list of the person with the same id as {@code person}, or else the
+     * person equal to {@code person}, or -1 if there is none.
+     */
+    int indexOfPerson(Person person) {
+        requireNonNull(person);
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Returns the persons whose names may contain any of {@code keywords} (case-insensitive), as narrowed down
+     * by the name index, or {@code Optional.empty()} if the index cannot narrow the search.
+     *
+     * @see NameTrigramIndex#findCandidates(List)
+     */
+    public Optional<Set<Person>> getNameSearchCandidates(List<String> keywords) {
+        requireNonNull(keywords);
+        return nameIndex.findCandidates(keywords);
+    }
+
+    /**
+     * Returns the persons with a tag named {@code tagName} (case-insensitive).
+     */
+    public List<Person> getPersonsWithTag(String tagName) {
+        requireNonNull(tagName);
+        return tagIndex.getPersonsWithTag(tagName);
+    }
+
+    /**
+     * Returns the number of persons with a tag named {@code tagName} (case-insensitive).
+     */
+    public int countPersonsWithTag(String tagName) {
+        requireNonNull(tagName);
+        return tagIndex.countPersonsWithTag(tagName);
+    }
+
+    /**
+     * Returns the persons with a tag whose name contains any of {@code keywords} (case-insensitive).
+     */
+    public Set<Person> getPersonsWithTagContaining(List<String> keywords) {
+        requireNonNull(keywords);
+        return tagIndex.getPersonsWithTagContaining(keywords);
+    }
+
+    /**
+     * Advances the version of this address book and logs {@code mutations} as the changes that produced it,
+     * unless {@code mutations} is empty.
+     */
+    private void recordMutations(List<PersonMutation> mutations) {
+        if (mutations.isEmpty()) {
+            return;
+        }
+
+        version++;
+        mutations.forEach(mutation -> mutationLog.addLast(new LoggedMutation(mutation, version)));
+        // Drop whole versions from the front, so that the log always covers every change after its start version
+        while (mutationLog.size() > MAX_LOGGED_MUTATIONS) {
+            long droppedVersion = mutationLog.peekFirst().version;
+            while (!mutationLog.isEmpty() && mutationLog.peekFirst().version == droppedVersion) {
+                mutationLog.removeFirst();
+            }
+            mutationLogStartVersion = droppedVersion;
+        }
+    }
+
+    /**
+     * Called after each change to the persons in this address book, with a record of it that can undo and redo it.
+     * Does nothing by default.
+     */
+    void recordChange(AddressBookChange change) {}
+
+    /**
+     * Empties the mutation log after a change that cannot be described by {@code PersonMutation}s.
+     */
+    private void clearMutationLog() {
+        mutationLog.clear();
+        mutationLogStartVersion = version;
     }
 
     //// util methods
 
+    /**
+     * Returns the mutation version of this address book, which changes whenever its persons are changed.
+     * Two calls that return the same version are guaranteed to have seen the same persons.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes made to this address book after it was at {@code sinceVersion}, in the order they were
+     * made, or {@code Optional.empty()} if they are no longer (or were never) logged, e.g. because the persons were
+     * replaced wholesale or sorted since then.
+     */
+    public Optional<List<PersonMutation>> getMutationsSince(long sinceVersion) {
+        if (sinceVersion < mutationLogStartVersion || sinceVersion > version) {
+            return Optional.empty();
+        }
+
+        List<PersonMutation> mutations = new ArrayList<>();
+        for (LoggedMutation loggedMutation : mutationLog) {
+            if (loggedMutation.version > sinceVersion) {
+                mutations.add(loggedMutation.mutation);
+            }
+        }
+        return Optional.of(mutations);
+    }
+
+    /**
+     * Returns an immutable copy of the persons currently in this address book, which is safe to read from any
+     * thread while this address book continues to change. Taking a snapshot copies nothing, as the persons of each
+     * snapshot share their structure with those of the snapshots before and after it.
+     * Several threads may take snapshots at once, as long as the address book is not changed while they do.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        Snapshot snapshot = lastSnapshot;
+        if (snapshot == null || snapshot.version != version) {
+            snapshot = new Snapshot(persons.asPersistentList(), version);
+            lastSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the last snapshot taken of this address book if the address book has not changed since, without
+     * reading any persons.
+     */
+    public Optional<ReadOnlyAddressBook> getSnapshotIfCurrent() {
+        Snapshot snapshot = lastSnapshot;
+        return snapshot != null && snapshot.version == version ? Optional.of(snapshot) : Optional.empty();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -114,7 +418,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void sortPersons(Comparator<Person> comparator) {
         requireNonNull(comparator);
+        PersistentList<Person> personsBefore = persons.asPersistentList();
         persons.sort(comparator); // persons is the UniquePersonList
+        version++;
+        clearMutationLog();
+        recordChange(AddressBookChange.replacedAll(personsBefore, persons.asPersistentList()));
     }
 
     @Override
@@ -136,4 +444,43 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * A change in the mutation log, with the version of the address book right after it.
+     */
+    private static class LoggedMutation {
+        private final PersonMutation mutation;
+        private final long version;
+
+        LoggedMutation(PersonMutation mutation, long version) {
+            this.mutation = mutation;
+            this.version = version;
+        }
+    }
+
+    /**
+     * An immutable copy of the persons of an {@code AddressBook} at some version.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final long version;
+
+        Snapshot(PersistentList<Person> persons, long version) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+            this.version = version;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("persons", persons)
+                    .add("version", version)
+                    .toString();
+        }
+    }
 }
@@ -0,0 +1,177 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents one change to the persons in an {@code AddressBook}, recorded with enough detail to undo and redo it
+ * in time proportional to the size of the change: persons added or removed at the given positions, persons
+ * replaced by edited persons, or the whole person list replaced (e.g. when it is cleared or sorted).
+ * Guarantees: immutable.
+ */
+class AddressBookChange {
+
+    // Rough sizes in bytes, used to keep the undo history within its memory budget
+    private static final long CHANGE_BYTES = 64;
+    private static final long MUTATION_BYTES = 48;
+    private static final long POSITION_BYTES = 16;
+    // An entry of a list of persons, referring to a person that may be kept in memory by the address book too
+    private static final long ENTRY_BYTES = 32;
+    // A person that is no longer in the address book, and is kept in memory only by the history
+    private static final long PERSON_BYTES = 512;
+
+    /**
+     * The kinds of changes to the persons in an address book.
+     */
+    enum Type {
+        ADD, REMOVE, SET, REPLACE_ALL
+    }
+
+    private final Type type;
+    private final List<PersonMutation> mutations;
+    private final List<Integer> positions;
+    private final PersistentList<Person> personsBefore;
+    private final PersistentList<Person> personsAfter;
+
+    private AddressBookChange(Type type, List<PersonMutation> mutations, List<Integer> positions,
+            PersistentList<Person> personsBefore, PersistentList<Person> personsAfter) {
+        this.type = type;
+        this.mutations = mutations;
+        this.positions = positions;
+        this.personsBefore = personsBefore;
+        this.personsAfter = personsAfter;
+    }
+
+    /**
+     * Returns a change that inserts {@code persons} at {@code positions}, the positions they have once all of them
+     * are inserted, in ascending order.
+     */
+    static AddressBookChange added(List<Integer> positions, List<Person> persons) {
+        return positioned(Type.ADD, positions, persons.stream().map(PersonMutation::add).toList());
+    }
+
+    /**
+     * Returns a change that removes {@code persons} from {@code positions}, the positions they have before any of
+     * them is removed, in ascending order.
+     */
+    static AddressBookChange removed(List<Integer> positions, List<Person> persons) {
+        return positioned(Type.REMOVE, positions, persons.stream().map(PersonMutation::remove).toList());
+    }
+
+    /**
+     * Returns a change that makes each of the {@code SET} mutations in {@code replacements}.
+     */
+    static AddressBookChange replaced(List<PersonMutation> replacements) {
+        requireAllNonNull(replacements);
+        assert replacements.stream().allMatch(mutation -> mutation.getType() == PersonMutation.Type.SET);
+        return new AddressBookChange(Type.SET, List.copyOf(replacements), List.of(), null, null);
+    }
+
+    /**
+     * Returns a change that replaces all of {@code personsBefore} with {@code personsAfter}.
+     */
+    static AddressBookChange replacedAll(PersistentList<Person> personsBefore, PersistentList<Person> personsAfter) {
+        requireAllNonNull(personsBefore, personsAfter);
+        return new AddressBookChange(Type.REPLACE_ALL, List.of(), List.of(), personsBefore, personsAfter);
+    }
+
+    private static AddressBookChange positioned(Type type, List<Integer> positions, List<PersonMutation> mutations) {
+        requireAllNonNull(positions);
+        assert positions.size() == mutations.size();
+        return new AddressBookChange(type, mutations, List.copyOf(positions), null, null);
+    }
+
+    /**
+     * Returns this change followed by {@code next} as a single change, if both are {@code ADD} changes and
+     * {@code next} only adds persons after those added by this change, e.g. when both append persons.
+     */
+    Optional<AddressBookChange> mergeWith(AddressBookChange next) {
+        requireNonNull(next);
+        if (type != Type.ADD || next.type != Type.ADD
+                || next.positions.get(0) <= positions.get(positions.size() - 1)) {
+            return Optional.empty();
+        }
+
+        List<Integer> mergedPositions = new ArrayList<>(positions);
+        mergedPositions.addAll(next.positions);
+        List<PersonMutation> mergedMutations = new ArrayList<>(mutations);
+        mergedMutations.addAll(next.mutations);
+        return Optional.of(new AddressBookChange(Type.ADD, mergedMutations, mergedPositions, null, null));
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the persons added or removed by an {@code ADD} or {@code REMOVE} change.
+     */
+    List<Person> getPersons() {
+        return mutations.stream().map(PersonMutation::getPerson).toList();
+    }
+
+    /**
+     * Returns the positions of the persons added or removed by an {@code ADD} or {@code REMOVE} change.
+     */
+    List<Integer> getPositions() {
+        return positions;
+    }
+
+    /**
+     * Returns the replacements made by a {@code SET} change.
+     */
+    List<PersonMutation> getReplacements() {
+        return mutations;
+    }
+
+    PersistentList<Person> getPersonsBefore() {
+        return personsBefore;
+    }
+
+    PersistentList<Person> getPersonsAfter() {
+        return personsAfter;
+    }
+
+    /**
+     * Returns roughly how many bytes of memory this change keeps in use.
+     */
+    long estimateBytes() {
+        switch (type) {
+        case ADD:
+            return CHANGE_BYTES + mutations.size() * (MUTATION_BYTES + POSITION_BYTES);
+        case REMOVE:
+            return CHANGE_BYTES + mutations.size() * (MUTATION_BYTES + POSITION_BYTES + PERSON_BYTES);
+        case SET:
+            return CHANGE_BYTES + mutations.size() * (MUTATION_BYTES + PERSON_BYTES);
+        case REPLACE_ALL:
+            // Only the persons before that are not among the persons after (e.g. every person after a clear, but
+            // none after a sort) are kept in memory by the history alone
+            Set<Person> sharedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+            sharedPersons.addAll(personsAfter);
+            long unsharedCount = personsBefore.stream().filter(person -> !sharedPersons.contains(person)).count();
+            return CHANGE_BYTES + personsBefore.size() * ENTRY_BYTES + unsharedCount * PERSON_BYTES;
+        default:
+            throw new AssertionError("Unknown change type: " + type);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("mutations", mutations)
+                .add("positions", positions)
+                .toString();
+    }
+}
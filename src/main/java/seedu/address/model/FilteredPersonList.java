@@ -0,0 +1,249 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.person.Person;
+
+/**
+ * A view of the persons in a source list that satisfy a predicate, in the order of the source list.
+ * <p>
+ * Like a {@code FilteredList}, it can be filtered by testing every person in the source list against a predicate.
+ * It can also be filtered from the positions of the persons that satisfy the predicate, as found by an index, without
+ * testing any other person. Either way, later changes to the source list are filtered incrementally: only the persons
+ * added to it are tested against the predicate.
+ */
+class FilteredPersonList extends TransformationList<Person, Person> {
+
+    private Predicate<? super Person> predicate;
+    // Positions in the source list of the persons shown, in ascending order; only the first size are used
+    private int[] matches;
+    private int size;
+
+    /**
+     * Creates a {@code FilteredPersonList} that shows every person in {@code source}.
+     */
+    FilteredPersonList(ObservableList<Person> source) {
+        super(source);
+        predicate = person -> true;
+        matches = new int[source.size()];
+        size = source.size();
+        for (int i = 0; i < size; i++) {
+            matches[i] = i;
+        }
+    }
+
+    Predicate<? super Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the persons in the source list that satisfy {@code predicate}, testing every one of them.
+     */
+    void setPredicate(Predicate<? super Person> predicate) {
+        requireNonNull(predicate);
+        ObservableList<? extends Person> source = getSource();
+        int[] newMatches = new int[source.size()];
+        int newSize = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                newMatches[newSize++] = i;
+            }
+        }
+        show(predicate, newMatches, newSize);
+    }
+
+    /**
+     * Shows the persons at {@code positions} in the source list, which must be exactly those that satisfy
+     * {@code predicate}, in ascending order, without testing any person.
+     */
+    void setMatches(Predicate<? super Person> predicate, int[] positions) {
+        requireAllNonNull(predicate, positions);
+        for (int i = 0; i < positions.length; i++) {
+            assert positions[i] >= 0 && positions[i] < getSource().size() : "Position out of bounds";
+            assert i == 0 || positions[i - 1] < positions[i] : "Positions not in ascending order";
+        }
+        show(predicate, positions.clone(), positions.length);
+    }
+
+    private void show(Predicate<? super Person> newPredicate, int[] newMatches, int newSize) {
+        List<Person> removed = new ArrayList<>(this);
+        predicate = newPredicate;
+        matches = newMatches;
+        size = newSize;
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    @Override
+    public Person get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return getSource().get(matches[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return matches[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return Arrays.binarySearch(matches, 0, size, index);
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Person> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                addRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Reorders the persons shown after the persons in the changed range of the source list were reordered.
+     */
+    private void permute(ListChangeListener.Change<? extends Person> change) {
+        int start = indexOfFirstMatchFrom(change.getFrom());
+        int end = indexOfFirstMatchFrom(change.getTo());
+        if (end - start < 2) {
+            if (end > start) {
+                matches[start] = change.getPermutation(matches[start]);
+            }
+            return;
+        }
+
+        int[] newPositions = new int[end - start];
+        for (int i = start; i < end; i++) {
+            newPositions[i - start] = change.getPermutation(matches[i]);
+        }
+        int[] sortedPositions = newPositions.clone();
+        Arrays.sort(sortedPositions);
+        int[] permutation = new int[end - start];
+        for (int i = 0; i < newPositions.length; i++) {
+            permutation[i] = start + Arrays.binarySearch(sortedPositions, newPositions[i]);
+        }
+        System.arraycopy(sortedPositions, 0, matches, start, sortedPositions.length);
+        nextPermutation(start, end, permutation);
+    }
+
+    /**
+     * Tests the persons in the changed range of the source list again after they were updated in place.
+     */
+    private void update(ListChangeListener.Change<? extends Person> change) {
+        for (int position = change.getFrom(); position < change.getTo(); position++) {
+            int index = indexOfFirstMatchFrom(position);
+            boolean isShown = index < size && matches[index] == position;
+            boolean isMatch = predicate.test(getSource().get(position));
+            if (isShown && isMatch) {
+                nextUpdate(index);
+            } else if (isShown) {
+                Person removed = get(index);
+                replaceMatches(index, index + 1, new int[0], 0, 0);
+                nextRemove(index, removed);
+            } else if (isMatch) {
+                replaceMatches(index, index, new int[] {position}, 1, 0);
+                nextAdd(index, index + 1);
+            }
+        }
+    }
+
+    /**
+     * Removes the persons removed from the source list, and shows those added that satisfy the predicate.
+     */
+    private void addRemove(ListChangeListener.Change<? extends Person> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int addedSize = change.getAddedSize();
+
+        int index = indexOfFirstMatchFrom(from);
+        int removedEnd = index;
+        List<Person> removed = new ArrayList<>();
+        while (removedEnd < size && matches[removedEnd] < from + removedSize) {
+            removed.add(change.getRemoved().get(matches[removedEnd] - from));
+            removedEnd++;
+        }
+
+        List<? extends Person> added = change.getAddedSubList();
+        int[] addedMatches = new int[addedSize];
+        int addedCount = 0;
+        for (int i = 0; i < addedSize; i++) {
+            if (predicate.test(added.get(i))) {
+                addedMatches[addedCount++] = from + i;
+            }
+        }
+
+        replaceMatches(index, removedEnd, addedMatches, addedCount, addedSize - removedSize);
+        if (!removed.isEmpty() && addedCount > 0) {
+            nextReplace(index, index + addedCount, removed);
+        } else if (!removed.isEmpty()) {
+            nextRemove(index, removed);
+        } else if (addedCount > 0) {
+            nextAdd(index, index + addedCount);
+        }
+    }
+
+    /**
+     * Replaces the matches from {@code start} to {@code end} with the first {@code count} of {@code replacements},
+     * shifting the positions of the matches after them by {@code shift}.
+     */
+    private void replaceMatches(int start, int end, int[] replacements, int count, int shift) {
+        int newSize = size - (end - start) + count;
+        int[] target = newSize <= matches.length ? matches : Arrays.copyOf(matches, Math.max(newSize, 2 * size));
+        System.arraycopy(matches, end, target, start + count, size - end);
+        for (int i = start + count; i < newSize; i++) {
+            target[i] += shift;
+        }
+        System.arraycopy(replacements, 0, target, start, count);
+        matches = target;
+        size = newSize;
+    }
+
+    /**
+     * Returns the index of the first person shown whose position in the source list is at least {@code position}.
+     */
+    private int indexOfFirstMatchFrom(int position) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (matches[mid] < position) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
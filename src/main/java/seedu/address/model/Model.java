@@ -1,11 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.MutationOutcome;
 import seedu.address.model.person.Person;
 /**
  * The API of the Model component.
@@ -52,6 +58,60 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the mutation version of the address book, which changes whenever the persons in it are changed.
+     * Comparing versions tells whether the address book has changed, e.g. since it was last saved.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns an immutable copy of the address book, which can be read from other threads (e.g. to save it)
+     * while the address book continues to change. Unlike the other methods, this may be called from any thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns the changes made to the address book after it was at {@code sinceVersion}, in order, or
+     * {@code Optional.empty()} if they are not known.
+     *
+     * @see AddressBook#getMutationsSince(long)
+     */
+    Optional<List<PersonMutation>> getAddressBookChangesSince(long sinceVersion);
+
+    /**
+     * Saves the changes made to the address book since the last commit as a state that can be undone.
+     * Does nothing if the address book has not changed since then.
+     */
+    void commitAddressBook();
+
+    /**
+     * Reverts the changes made to the address book since the last commit, without saving them as a state that can
+     * be undone.
+     */
+    void discardAddressBookChanges();
+
+    /**
+     * Returns true if there are changes to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there are undone changes to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Undoes the changes made to the address book between the last two commits.
+     * There must be changes that can be undone.
+     */
+    void undoAddressBook();
+
+    /**
+     * Redoes the changes to the address book that were last undone.
+     * There must be changes that can be redone.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -65,9 +125,10 @@ public interface Model {
 
     /**
      * Deletes all person(s) that match the given {@code predicate}
+     * @return the number of persons deleted.
      * @throws NullPointerException if {@code predicate} is null.
      */
-    void deleteAllPersons(Predicate<Person> predicate);
+    int deleteAllPersons(Predicate<Person> predicate);
 
     /**
      * Adds the given person.
@@ -75,6 +136,30 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds every person in {@code persons} that does not duplicate a person already in the address book or earlier
+     * in {@code persons}, as a single change of the person list.
+     *
+     * @return the outcome for each person in {@code persons}, in the same order.
+     */
+    List<MutationOutcome> addPersons(List<Person> persons);
+
+    /**
+     * Deletes every person in {@code persons} that exists in the address book, as a single change of the person list.
+     *
+     * @return the outcome for each person in {@code persons}, in the same order.
+     */
+    List<MutationOutcome> removePersons(List<Person> persons);
+
+    /**
+     * Replaces each target person (key) in {@code replacements} with its edited person (value), as a single change
+     * of the person list. Replacements whose target does not exist, or whose edited person would duplicate another
+     * person in the address book, are skipped.
+     *
+     * @return the outcome for each target in {@code replacements}.
+     */
+    Map<Person, MutationOutcome> setPersons(Map<Person, Person> replacements);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -82,6 +167,19 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the persons whose names may contain any of {@code keywords} (case-insensitive), as narrowed down
+     * by the address book's name index, or {@code Optional.empty()} if the index cannot narrow the search.
+     * Every person whose name contains one of the keywords is in the returned set.
+     */
+    Optional<Set<Person>> getNameSearchCandidates(List<String> keywords);
+
+    /**
+     * Returns the persons with a tag whose name contains any of {@code keywords} (case-insensitive),
+     * as looked up in the address book's tag index.
+     */
+    Set<Person> getPersonsWithTagContaining(List<String> keywords);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -91,6 +189,14 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, testing only the
+     * persons among {@code candidates}, which must include every person in the address book that satisfies it.
+     * Persons added to the address book later are tested against {@code predicate} as usual.
+     * @throws NullPointerException if {@code predicate} or {@code candidates} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Collection<Person> candidates);
+
     /**
      * Sorts the filtered list of persons based on the provided comparator.
      * The filtered list will be sorted according to the criteria defined by the comparator.
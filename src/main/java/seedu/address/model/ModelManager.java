@@ -4,25 +4,40 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.MutationOutcome;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagMatchesKeywordPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
+ * <p>
+ * The model is changed, and read through everything but {@link #getAddressBookSnapshot()}, on a single thread
+ * (the JavaFX application thread in the app). Each change to the address book is made under the write lock of a
+ * {@code StampedLock}, so that other threads can take consistent snapshots of it, which copy nothing, without taking
+ * any lock at all when the address book has not changed since the last snapshot. The person list shown to the user
+ * is a filtered view of the address book's own person list, so no other copy of the persons is kept.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final StampedLock addressBookLock = new StampedLock();
+    private final FilteredPersonList filteredPersons;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -32,9 +47,9 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryBytes());
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredPersonList(this.addressBook.getPersonList());
     }
 
     public ModelManager() {
@@ -80,7 +95,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        changeAddressBook(() -> this.addressBook.resetData(addressBook));
     }
 
     @Override
@@ -88,6 +103,62 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        long stamp = addressBookLock.tryOptimisticRead();
+        Optional<ReadOnlyAddressBook> currentSnapshot = addressBook.getSnapshotIfCurrent();
+        if (addressBookLock.validate(stamp) && currentSnapshot.isPresent()) {
+            return currentSnapshot.get();
+        }
+
+        stamp = addressBookLock.readLock();
+        try {
+            return addressBook.snapshot();
+        } finally {
+            addressBookLock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Optional<List<PersonMutation>> getAddressBookChangesSince(long sinceVersion) {
+        return addressBook.getMutationsSince(sinceVersion);
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
+    @Override
+    public void discardAddressBookChanges() {
+        changeAddressBook(addressBook::discardUncommittedChanges);
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        changeAddressBook(addressBook::undo);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        changeAddressBook(addressBook::redo);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -96,21 +167,54 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        changeAddressBook(() -> addressBook.removePerson(target));
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        changeAddressBook(() -> addressBook.addPerson(person));
+
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public List<MutationOutcome> addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        List<MutationOutcome> outcomes = changeAddressBookAndGet(() -> addressBook.addPersons(persons));
 
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return outcomes;
+    }
+
+    @Override
+    public List<MutationOutcome> removePersons(List<Person> persons) {
+        requireNonNull(persons);
+        return changeAddressBookAndGet(() -> addressBook.removePersons(persons));
+    }
+
+    @Override
+    public Map<Person, MutationOutcome> setPersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        return changeAddressBookAndGet(() -> addressBook.setPersons(replacements));
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        changeAddressBook(() -> addressBook.setPerson(target, editedPerson));
+    }
+
+    @Override
+    public Optional<Set<Person>> getNameSearchCandidates(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getNameSearchCandidates(keywords);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithTagContaining(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonsWithTagContaining(keywords);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -126,15 +230,19 @@ public class ModelManager implements Model {
 
     /**
      * Deletes all persons in the address book that match the given predicate.
+     * Persons matched by a {@code TagMatchesKeywordPredicate} are looked up in the tag index instead of
+     * testing every person, and all matches are removed in a single pass over the person list.
      * @param predicate the predicate to match persons against
      */
     @Override
-    public void deleteAllPersons(Predicate<Person> predicate) {
+    public int deleteAllPersons(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        addressBook.getPersonList().stream()
-                .filter(predicate)
-                .toList() // maybe a bit sus LOOK AGAIN
-                .forEach(this::deletePerson);
+        List<Person> toDelete = predicate instanceof TagMatchesKeywordPredicate
+                ? addressBook.getPersonsWithTag(((TagMatchesKeywordPredicate) predicate).getKeyword())
+                : addressBook.getPersonList().stream().filter(predicate).toList();
+        return (int) removePersons(toDelete).stream()
+                .filter(outcome -> outcome == MutationOutcome.APPLIED)
+                .count();
     }
 
     @Override
@@ -143,9 +251,48 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Collection<Person> candidates) {
+        requireAllNonNull(predicate, candidates);
+        int[] positions = candidates.stream()
+                .filter(predicate)
+                .mapToInt(addressBook::indexOfPerson)
+                .filter(position -> position != -1)
+                .sorted()
+                .distinct()
+                .toArray();
+        filteredPersons.setMatches(predicate, positions);
+    }
+
     @Override
     public void sortFilteredPersonList(Comparator<Person> comparator) {
-        addressBook.sortPersons(comparator);
+        changeAddressBook(() -> addressBook.sortPersons(comparator));
+    }
+
+    //=========== Concurrency ================================================================================
+
+    /**
+     * Makes {@code change} to the address book while holding the write lock.
+     */
+    private void changeAddressBook(Runnable change) {
+        changeAddressBookAndGet(() -> {
+            change.run();
+            return null;
+        });
+    }
+
+    /**
+     * Makes {@code change} to the address book while holding the write lock.
+     *
+     * @return the result of {@code change}.
+     */
+    private <T> T changeAddressBookAndGet(Supplier<T> change) {
+        long stamp = addressBookLock.writeLock();
+        try {
+            return change.get();
+        } finally {
+            addressBookLock.unlockWrite(stamp);
+        }
     }
 
     @Override
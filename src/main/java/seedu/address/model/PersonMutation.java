@@ -0,0 +1,133 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a single change to the persons in an {@code AddressBook}: a person being added, removed,
+ * or replaced by an edited person.
+ * Guarantees: immutable.
+ */
+public class PersonMutation {
+
+    /**
+     * The kinds of changes to the persons in an address book.
+     */
+    public enum Type {
+        ADD, REMOVE, SET
+    }
+
+    private final Type type;
+    private final Person target;
+    private final Person person;
+
+    private PersonMutation(Type type, Person target, Person person) {
+        this.type = type;
+        this.target = target;
+        this.person = person;
+    }
+
+    /**
+     * Returns a mutation that adds {@code person}.
+     */
+    public static PersonMutation add(Person person) {
+        requireNonNull(person);
+        return new PersonMutation(Type.ADD, null, person);
+    }
+
+    /**
+     * Returns a mutation that removes {@code person}.
+     */
+    public static PersonMutation remove(Person person) {
+        requireNonNull(person);
+        return new PersonMutation(Type.REMOVE, null, person);
+    }
+
+    /**
+     * Returns a mutation that replaces {@code target} with {@code editedPerson}.
+     */
+    public static PersonMutation set(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return new PersonMutation(Type.SET, target, editedPerson);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the person that is added or removed, or the edited person that replaces the target of a
+     * {@code SET} mutation.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the person that is replaced by a {@code SET} mutation, or null for other mutations.
+     */
+    public Person getTarget() {
+        return target;
+    }
+
+    /**
+     * Applies this mutation to {@code addressBook}.
+     *
+     * @throws seedu.address.model.person.exceptions.DuplicatePersonException if the person added, or the edited
+     *     person, has the same identity as another person in {@code addressBook}.
+     * @throws seedu.address.model.person.exceptions.PersonNotFoundException if the person removed, or the target,
+     *     is not in {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        switch (type) {
+        case ADD:
+            addressBook.addPerson(person);
+            break;
+        case REMOVE:
+            addressBook.removePerson(person);
+            break;
+        case SET:
+            addressBook.setPerson(target, person);
+            break;
+        default:
+            throw new AssertionError("Unknown mutation type: " + type);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonMutation)) {
+            return false;
+        }
+
+        PersonMutation otherMutation = (PersonMutation) other;
+        return type == otherMutation.type
+                && Objects.equals(target, otherMutation.target)
+                && person.equals(otherMutation.person);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, target, person);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("target", target)
+                .add("person", person)
+                .toString();
+    }
+}
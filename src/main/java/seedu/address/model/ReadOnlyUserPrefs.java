@@ -13,4 +13,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns roughly how many bytes of memory the undo/redo history may use.
+     */
+    long getUndoHistoryBytes();
+
 }
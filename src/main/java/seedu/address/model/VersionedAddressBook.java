@@ -0,0 +1,209 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBook} with an undo/redo history.
+ * <p>
+ * The history does not keep copies of the address book. Instead, every change to the persons is recorded as an
+ * {@code AddressBookChange} (the persons added, removed or replaced, with their positions), and the changes made
+ * between two commits are kept together as one state of the history. Undoing or redoing a state makes its changes
+ * in reverse, or again, in time proportional to the number of persons they changed.
+ * <p>
+ * The states are kept in a ring buffer whose total estimated size is kept within a budget in bytes: once it is
+ * exceeded, the oldest states are dropped and can no longer be undone.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    /** The default memory budget of the undo/redo history, in bytes. */
+    public static final long DEFAULT_HISTORY_BYTES = 64L * 1024 * 1024;
+
+    private final long historyBytesLimit;
+    private final Deque<State> undoStates = new ArrayDeque<>();
+    private final Deque<State> redoStates = new ArrayDeque<>();
+    private long historyBytes;
+
+    private List<AddressBookChange> uncommittedChanges = new ArrayList<>();
+    // Changes made while undoing or redoing are already in the history, so are not recorded again
+    private boolean isReplayingHistory;
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the persons in {@code toBeCopied} and an empty history that uses
+     * at most about {@code historyBytesLimit} bytes of memory.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook toBeCopied, long historyBytesLimit) {
+        requireNonNull(toBeCopied);
+        this.historyBytesLimit = historyBytesLimit;
+        resetData(toBeCopied);
+        uncommittedChanges.clear();
+    }
+
+    @Override
+    void recordChange(AddressBookChange change) {
+        if (isReplayingHistory) {
+            return;
+        }
+        if (!uncommittedChanges.isEmpty()) {
+            Optional<AddressBookChange> merged = uncommittedChanges.get(uncommittedChanges.size() - 1)
+                    .mergeWith(change);
+            if (merged.isPresent()) {
+                uncommittedChanges.set(uncommittedChanges.size() - 1, merged.get());
+                return;
+            }
+        }
+        uncommittedChanges.add(change);
+    }
+
+    /**
+     * Saves the changes made since the last commit as a new state of the history, which can be undone, and discards
+     * the states that were undone and could have been redone. Does nothing if nothing was changed.
+     */
+    public void commit() {
+        if (uncommittedChanges.isEmpty()) {
+            return;
+        }
+
+        State state = new State(uncommittedChanges);
+        uncommittedChanges = new ArrayList<>();
+        redoStates.forEach(undoneState -> historyBytes -= undoneState.bytes);
+        redoStates.clear();
+        undoStates.addLast(state);
+        historyBytes += state.bytes;
+        while (historyBytes > historyBytesLimit && !undoStates.isEmpty()) {
+            historyBytes -= undoStates.removeFirst().bytes;
+        }
+    }
+
+    /**
+     * Reverts the changes made since the last commit, without saving them as a state of the history. The states that
+     * could be redone are kept.
+     */
+    public void discardUncommittedChanges() {
+        List<AddressBookChange> changes = uncommittedChanges;
+        uncommittedChanges = new ArrayList<>();
+        replay(() -> {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                undo(changes.get(i));
+            }
+        });
+    }
+
+    /**
+     * Returns true if there is a committed state to undo.
+     */
+    public boolean canUndo() {
+        return !undoStates.isEmpty() || !uncommittedChanges.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone state to redo.
+     */
+    public boolean canRedo() {
+        return !redoStates.isEmpty() && uncommittedChanges.isEmpty();
+    }
+
+    /**
+     * Undoes the changes of the last committed state, committing any changes made since first.
+     */
+    public void undo() {
+        commit();
+        if (undoStates.isEmpty()) {
+            throw new IllegalStateException("There is no state to undo");
+        }
+
+        State state = undoStates.removeLast();
+        replay(() -> {
+            for (int i = state.changes.size() - 1; i >= 0; i--) {
+                undo(state.changes.get(i));
+            }
+        });
+        redoStates.addLast(state);
+    }
+
+    /**
+     * Redoes the changes of the last undone state.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no state to redo");
+        }
+
+        State state = redoStates.removeLast();
+        replay(() -> state.changes.forEach(this::redo));
+        undoStates.addLast(state);
+    }
+
+    private void replay(Runnable changes) {
+        isReplayingHistory = true;
+        try {
+            changes.run();
+        } finally {
+            isReplayingHistory = false;
+        }
+    }
+
+    private void undo(AddressBookChange change) {
+        switch (change.getType()) {
+        case ADD:
+            removePersons(change.getPersons());
+            break;
+        case REMOVE:
+            insertPersons(change.getPositions(), change.getPersons());
+            break;
+        case SET:
+            Map<Person, Person> reverted = new LinkedHashMap<>();
+            change.getReplacements().forEach(mutation -> reverted.put(mutation.getPerson(), mutation.getTarget()));
+            setPersons(reverted);
+            break;
+        case REPLACE_ALL:
+            setPersons(change.getPersonsBefore());
+            break;
+        default:
+            throw new AssertionError("Unknown change type: " + change.getType());
+        }
+    }
+
+    private void redo(AddressBookChange change) {
+        switch (change.getType()) {
+        case ADD:
+            insertPersons(change.getPositions(), change.getPersons());
+            break;
+        case REMOVE:
+            removePersons(change.getPersons());
+            break;
+        case SET:
+            Map<Person, Person> replacements = new LinkedHashMap<>();
+            change.getReplacements().forEach(mutation -> replacements.put(mutation.getTarget(), mutation.getPerson()));
+            setPersons(replacements);
+            break;
+        case REPLACE_ALL:
+            setPersons(change.getPersonsAfter());
+            break;
+        default:
+            throw new AssertionError("Unknown change type: " + change.getType());
+        }
+    }
+
+    /**
+     * The changes made between two commits.
+     */
+    private static class State {
+        private final List<AddressBookChange> changes;
+        private final long bytes;
+
+        State(List<AddressBookChange> changes) {
+            this.changes = changes;
+            this.bytes = changes.stream().mapToLong(AddressBookChange::estimateBytes).sum();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.model.person;
+
+/**
+ * The outcome of applying one item of a batch mutation to a {@code UniquePersonList}.
+ */
+public enum MutationOutcome {
+    /** The item was applied to the list. */
+    APPLIED,
+    /** The item was skipped because it would result in duplicate persons. */
+    DUPLICATE,
+    /** The item was skipped because the person it refers to is not in the list. */
+    NOT_FOUND
+}
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -10,15 +11,24 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    // The keywords as search keys, normalized once so that testing a person allocates nothing
+    private final String[] searchKeys;
 
+    /**
+     * Creates a predicate that matches persons whose name contains any of {@code keywords}, ignoring case.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeys = keywords.stream().map(StringUtil::toSearchKey).toArray(String[]::new);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getName().toString().toLowerCase().contains(keyword.toLowerCase()));
+        return StringUtil.containsAny(person.getName().getSearchKey(), searchKeys);
     }
 
     @Override
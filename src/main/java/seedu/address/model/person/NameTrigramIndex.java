@@ -0,0 +1,127 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the trigrams (3-character substrings) of each person's
+ * {@code Name#getSearchKey()} to the persons whose name contains that trigram.
+ *
+ * A name that contains a keyword as a substring must contain every trigram of that keyword, so
+ * intersecting the posting sets of a keyword's trigrams yields a small superset of the matching persons.
+ * Callers are expected to verify each candidate with the exact matching rule.
+ */
+public class NameTrigramIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Indexes the name of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        String name = person.getName().getSearchKey();
+        for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+            postings.computeIfAbsent(gramAt(name, i), unused -> newIdentitySet()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String name = person.getName().getSearchKey();
+        for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+            Long gram = gramAt(name, i);
+            Set<Person> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(person);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the names of {@code persons}.
+     */
+    public void reset(List<Person> persons) {
+        postings.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose name may contain any of {@code keywords} (case-insensitive),
+     * or {@code Optional.empty()} if some keyword is shorter than {@link #GRAM_LENGTH} and the index cannot
+     * narrow the search. Every person whose name contains one of the keywords is in the returned set.
+     */
+    public Optional<Set<Person>> findCandidates(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> candidates = newIdentitySet();
+        for (String keyword : keywords) {
+            String normalizedKeyword = StringUtil.toSearchKey(keyword);
+            if (normalizedKeyword.length() < GRAM_LENGTH) {
+                return Optional.empty();
+            }
+            candidates.addAll(findCandidates(normalizedKeyword));
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns the intersection of the postings of every trigram of {@code keyword}.
+     */
+    private Set<Person> findCandidates(String keyword) {
+        Set<Person> smallest = null;
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            Set<Person> posting = postings.get(gramAt(keyword, i));
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+
+        Set<Person> result = newIdentitySet();
+        for (Person person : smallest) {
+            if (containsAllGrams(keyword, person)) {
+                result.add(person);
+            }
+        }
+        return result;
+    }
+
+    private boolean containsAllGrams(String keyword, Person person) {
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            if (!postings.get(gramAt(keyword, i)).contains(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Packs the three characters of {@code text} starting at {@code start} into a single key.
+     */
+    private static Long gramAt(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -9,6 +9,7 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
@@ -21,6 +22,11 @@ public class Person {
 
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
+    private static final AtomicLong nextId = new AtomicLong();
+
+    // Internal identifier, stable across edits of the same person
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -36,10 +42,21 @@ public class Person {
 
     /**
      * Every field must be present and not null.
+     * The person is given a new internal identifier.
      */
     public Person(Name name, Phone phone, Email email, Address address, Role role,
                   Set<Tag> tags, Optional<LocalDateTime> lastContacted) {
+        this(nextId.getAndIncrement(), name, phone, email, address, role, tags, lastContacted);
+    }
+
+    /**
+     * Constructs an updated version of the person with internal identifier {@code id}, e.g. the result of editing
+     * that person. Every field must be present and not null.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address, Role role,
+                  Set<Tag> tags, Optional<LocalDateTime> lastContacted) {
         requireAllNonNull(name, phone, email, address, role, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -49,6 +66,14 @@ public class Person {
         this.lastContacted = lastContacted;
     }
 
+    /**
+     * Returns the internal identifier of this person, which is kept by edited versions of the person.
+     * It is not part of {@link #equals(Object)} and is not persisted.
+     */
+    public long getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -85,7 +110,7 @@ public class Person {
      * Returns a new Person object with an updated lastContacted time.
      */
     public Person markAsContacted() {
-        return new Person(this.getName(), this.getPhone(), this.getEmail(),
+        return new Person(this.getId(), this.getName(), this.getPhone(), this.getEmail(),
                 this.getAddress(), this.getRole(), this.getTags(), Optional.of(LocalDateTime.now()));
     }
 
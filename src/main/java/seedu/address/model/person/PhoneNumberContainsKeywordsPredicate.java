@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
@@ -11,7 +12,6 @@ import seedu.address.commons.util.ToStringBuilder;
 public class PhoneNumberContainsKeywordsPredicate implements Predicate<Person> {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone search terms must be 3-18 digits long";
-    private static final String VALIDATION_REGEX = "\\d{3,15}";
     private final List<String> keywords;
 
     public PhoneNumberContainsKeywordsPredicate(List<String> keywords) {
@@ -25,7 +25,7 @@ public class PhoneNumberContainsKeywordsPredicate implements Predicate<Person> {
     }
 
     public static boolean isValidPhoneSearchTerm(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test, 3, 15);
     }
 
     @Override
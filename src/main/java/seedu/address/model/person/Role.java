@@ -2,6 +2,10 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 //creating role field
 /**
  * Represents a Person's name in the address book.
@@ -20,6 +24,7 @@ public class Role implements Comparable<Role> {
 
 
     public final String value;
+    private final String searchKey;
 
     /**
      * Constructs a {@code Name}.
@@ -30,15 +35,24 @@ public class Role implements Comparable<Role> {
         requireNonNull(role);
         checkArgument(isValidRole(role), MESSAGE_CONSTRAINTS);
         value = role;
+        searchKey = StringUtil.toSearchKey(role);
     }
 
     /**
      * Returns true if a given string is a valid role.
      */
     public static boolean isValidRole(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphabeticWithSpaces(test);
     }
 
+    /**
+     * Returns the key that this role is searched by.
+     *
+     * @see StringUtil#toSearchKey(String)
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
 
     @Override
     public String toString() {
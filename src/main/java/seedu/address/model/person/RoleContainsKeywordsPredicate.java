@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -10,16 +11,19 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class RoleContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] searchKeys;
 
+    /**
+     * Creates a predicate that matches persons whose role contains any of {@code keywords}, ignoring case.
+     */
     public RoleContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeys = keywords.stream().map(StringUtil::toSearchKey).toArray(String[]::new);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        person.getRole().toString().toLowerCase().contains(keyword.toLowerCase()));
+        return StringUtil.containsAny(person.getRole().getSearchKey(), searchKeys);
     }
 
     @Override
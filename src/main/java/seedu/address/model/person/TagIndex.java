@@ -0,0 +1,163 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from tags to the persons carrying them.
+ *
+ * Every indexed person occupies an int slot, and every distinct (case-insensitive) tag name is assigned an int id
+ * in a tag dictionary. Each tag id maps to a {@code BitSet} of the slots of the persons with that tag, so looking
+ * up, counting or collecting the persons with a tag only touches the tag's own bits rather than every person.
+ */
+public class TagIndex {
+
+    private final Map<String, Integer> tagIds = new HashMap<>();
+    private final List<String> tagNames = new ArrayList<>();
+    private final List<BitSet> slotsByTag = new ArrayList<>();
+
+    private final Map<Person, Integer> slotsByPerson = new IdentityHashMap<>();
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final BitSet freeSlots = new BitSet();
+
+    /**
+     * Indexes the tags of {@code person}.
+     * Adding a person that is already indexed has no effect.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (slotsByPerson.containsKey(person)) {
+            return;
+        }
+
+        int slot = allocateSlot(person);
+        for (Tag tag : person.getTags()) {
+            slotsByTag.get(idOf(tag.getSearchKey())).set(slot);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     * Removing a person that is not indexed (by reference) has no effect.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slotsByPerson.remove(person);
+        if (slot == null) {
+            return;
+        }
+
+        for (Tag tag : person.getTags()) {
+            Integer id = tagIds.get(tag.getSearchKey());
+            if (id != null) {
+                slotsByTag.get(id).clear(slot);
+            }
+        }
+        personsBySlot.set(slot, null);
+        freeSlots.set(slot);
+    }
+
+    /**
+     * Replaces the contents of the index with the tags of {@code persons}.
+     */
+    public void reset(List<Person> persons) {
+        tagIds.clear();
+        tagNames.clear();
+        slotsByTag.clear();
+        slotsByPerson.clear();
+        personsBySlot.clear();
+        freeSlots.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons with a tag named {@code tagName} (case-insensitive).
+     */
+    public List<Person> getPersonsWithTag(String tagName) {
+        requireNonNull(tagName);
+        Integer id = tagIds.get(StringUtil.toSearchKey(tagName.trim()));
+        if (id == null) {
+            return Collections.emptyList();
+        }
+        return toPersons(slotsByTag.get(id));
+    }
+
+    /**
+     * Returns the number of persons with a tag named {@code tagName} (case-insensitive).
+     */
+    public int countPersonsWithTag(String tagName) {
+        requireNonNull(tagName);
+        Integer id = tagIds.get(StringUtil.toSearchKey(tagName.trim()));
+        return id == null ? 0 : slotsByTag.get(id).cardinality();
+    }
+
+    /**
+     * Returns the persons with a tag whose name contains any of {@code keywords} (case-insensitive).
+     * Only the tag dictionary is scanned; the persons are collected from the union of the matching tags' bits.
+     */
+    public Set<Person> getPersonsWithTagContaining(List<String> keywords) {
+        requireNonNull(keywords);
+        String[] keywordSearchKeys = keywords.stream().map(StringUtil::toSearchKey).toArray(String[]::new);
+
+        BitSet matchingSlots = new BitSet();
+        for (int id = 0; id < tagNames.size(); id++) {
+            String tagName = tagNames.get(id);
+            if (StringUtil.containsAny(tagName, keywordSearchKeys)) {
+                matchingSlots.or(slotsByTag.get(id));
+            }
+        }
+
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        persons.addAll(toPersons(matchingSlots));
+        return persons;
+    }
+
+    private int allocateSlot(Person person) {
+        int slot = freeSlots.nextSetBit(0);
+        if (slot < 0) {
+            slot = personsBySlot.size();
+            personsBySlot.add(person);
+        } else {
+            freeSlots.clear(slot);
+            personsBySlot.set(slot, person);
+        }
+        slotsByPerson.put(person, slot);
+        return slot;
+    }
+
+    /**
+     * Returns the id of the tag with search key {@code normalizedName} in the tag dictionary, adding it if it is not
+     * there yet.
+     */
+    private int idOf(String normalizedName) {
+        Integer id = tagIds.get(normalizedName);
+        if (id != null) {
+            return id;
+        }
+
+        int newId = tagNames.size();
+        tagIds.put(normalizedName, newId);
+        tagNames.add(normalizedName);
+        slotsByTag.add(new BitSet());
+        return newId;
+    }
+
+    private List<Person> toPersons(BitSet slots) {
+        List<Person> persons = new ArrayList<>(slots.cardinality());
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            persons.add(personsBySlot.get(slot));
+        }
+        return persons;
+    }
+}
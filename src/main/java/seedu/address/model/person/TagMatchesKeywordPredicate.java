@@ -8,19 +8,31 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that one of a {@code Person}'s {@code Tags} exactly match (case-insensitive) the keyword given.
+ * Tags and the keyword are compared by their search keys, as in {@link TagIndex#getPersonsWithTag(String)}.
  */
 public class TagMatchesKeywordPredicate implements Predicate<Person> {
     private final List<String> keyword;
+    private final String searchKey;
 
+    /**
+     * Creates a predicate that matches persons with a tag named {@code keyword.get(0)}.
+     */
     public TagMatchesKeywordPredicate(List<String> keyword) {
         this.keyword = keyword;
+        this.searchKey = StringUtil.toSearchKey(keyword.get(0).trim());
+    }
+
+    /**
+     * Returns the tag name that a person's tag must match.
+     */
+    public String getKeyword() {
+        return keyword.get(0);
     }
 
-    // expecting singleton list, get(0) alright?
     @Override
     public boolean test(Person person) {
         return person.getTags().stream()
-                .anyMatch(tag -> StringUtil.containsWordIgnoreCase(tag.getTag(), keyword.get(0)));
+                .anyMatch(tag -> tag.getSearchKey().equals(searchKey));
     }
 
     @Override
@@ -3,23 +3,37 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s {@code Tags} contains any of the keywords given.
  */
 public class TagsContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] searchKeys;
 
+    /**
+     * Creates a predicate that matches persons with a tag containing any of {@code keywords}, ignoring case.
+     */
     public TagsContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeys = keywords.stream().map(StringUtil::toSearchKey).toArray(String[]::new);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getTags().stream()
-                        .anyMatch(tag -> tag.getTag().toLowerCase().contains(keyword.toLowerCase())));
+        for (Tag tag : person.getTags()) {
+            if (StringUtil.containsAny(tag.getSearchKey(), searchKeys)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
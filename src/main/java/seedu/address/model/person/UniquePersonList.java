@@ -3,12 +3,22 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -19,6 +29,15 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered from hash indexes on phone and email (the two identity fields used by
+ * {@code Person#isSamePerson(Person)}), which are kept in sync with the backing list by every mutating operation.
+ * Persons to be replaced or removed are located through a map from {@code Person#getId()} to list position, so a
+ * person taken from this list (or an edited version of it) is found without scanning or deep comparisons; a person
+ * that is merely equal to one in the list is located through the phone index instead.
+ *
+ * Every change is also made to a {@code PersistentList} of the persons, in O(log n) time per person changed, so
+ * that an immutable copy of the list can be taken at any time without copying it.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -29,12 +48,21 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private PersistentList<Person> persistentList = PersistentList.empty();
+
+    private final Map<String, Person> personsByPhone = new HashMap<>();
+    private final Map<String, Person> personsByEmail = new HashMap<>();
+
+    private final Map<Long, Integer> positionsById = new HashMap<>();
+    // Positions in positionsById at or after this position may be out of date after a removal
+    private int firstStalePosition = Integer.MAX_VALUE;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByPhone.containsKey(phoneKey(toCheck)) || personsByEmail.containsKey(emailKey(toCheck));
     }
 
     /**
@@ -46,43 +74,260 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        index(toAdd);
+        positionsById.put(toAdd.getId(), internalList.size());
         internalList.add(toAdd);
+        persistentList = persistentList.withAppended(toAdd);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the person in the list that was replaced, which is equal to {@code target}.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person existing = internalList.get(index);
+        if (isClaimedByOther(personsByPhone.get(phoneKey(editedPerson)), existing)
+                || isClaimedByOther(personsByEmail.get(emailKey(editedPerson)), existing)) {
             throw new DuplicatePersonException();
         }
 
+        unindex(existing);
+        index(editedPerson);
+        positionsById.remove(existing.getId());
+        positionsById.put(editedPerson.getId(), index);
         internalList.set(index, editedPerson);
+        persistentList = persistentList.withSet(index, editedPerson);
+        return existing;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the person in the list that was removed, which has the same id as or is equal to {@code toRemove}.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.remove(index);
+        persistentList = persistentList.withRemoved(index);
+        unindex(removed);
+        positionsById.remove(removed.getId());
+        firstStalePosition = Math.min(firstStalePosition, index);
+        return removed;
+    }
+
+    /**
+     * Returns the position in the list of the person that {@code person} refers to (see {@link #find(Person)}),
+     * or -1 if there is none.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return positionOf(person);
+    }
+
+    /**
+     * Returns the person in the list that {@code person} refers to, i.e. the person with the same id as
+     * {@code person} or else the person equal to {@code person}, if any.
+     */
+    public Optional<Person> find(Person person) {
+        requireNonNull(person);
+        int position = positionOf(person);
+        return position == -1 ? Optional.empty() : Optional.of(internalList.get(position));
+    }
+
+    /**
+     * Adds every person in {@code toAdd} that does not have the same identity as a person already in the list
+     * or earlier in {@code toAdd}. The accepted persons are appended with a single list change.
+     *
+     * @return the outcome for each person in {@code toAdd}, in the same order.
+     */
+    public List<MutationOutcome> addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        List<MutationOutcome> outcomes = new ArrayList<>(toAdd.size());
+        List<Person> accepted = new ArrayList<>(toAdd.size());
+        for (Person person : toAdd) {
+            if (contains(person)) {
+                outcomes.add(MutationOutcome.DUPLICATE);
+                continue;
+            }
+            index(person);
+            positionsById.put(person.getId(), internalList.size() + accepted.size());
+            accepted.add(person);
+            outcomes.add(MutationOutcome.APPLIED);
+        }
+
+        internalList.addAll(accepted);
+        updatePersistentList(accepted.size(), list -> {
+            for (Person person : accepted) {
+                list = list.withAppended(person);
+            }
+            return list;
+        });
+        return outcomes;
+    }
+
+    /**
+     * Inserts each person in {@code toInsert} at the position given for it in {@code positions}, which are the
+     * positions the persons will have in the list once all of them are inserted, in ascending order. The persons
+     * are inserted with a single list change.
+     *
+     * @throws DuplicatePersonException if a person has the same identity as another person in the list or in
+     *     {@code toInsert}, in which case the list is not changed.
+     */
+    public void insertAll(List<Integer> positions, List<Person> toInsert) {
+        requireAllNonNull(positions);
+        requireAllNonNull(toInsert);
+        assert positions.size() == toInsert.size();
+        Map<String, Person> insertedByPhone = new HashMap<>();
+        Map<String, Person> insertedByEmail = new HashMap<>();
+        if (!personsAreUnique(toInsert, insertedByPhone, insertedByEmail)
+                || toInsert.stream().anyMatch(this::contains)) {
+            throw new DuplicatePersonException();
+        }
+
+        for (int i = 0; i < toInsert.size(); i++) {
+            index(toInsert.get(i));
+            positionsById.put(toInsert.get(i).getId(), positions.get(i));
+        }
+        if (positions.isEmpty() || positions.get(0) == internalList.size()) {
+            internalList.addAll(toInsert);
+        } else {
+            List<Person> merged = new ArrayList<>(internalList.size() + toInsert.size());
+            int next = 0;
+            for (Person person : internalList) {
+                while (next < positions.size() && positions.get(next) == merged.size()) {
+                    merged.add(toInsert.get(next++));
+                }
+                merged.add(person);
+            }
+            merged.addAll(toInsert.subList(next, toInsert.size()));
+            internalList.setAll(merged);
+        }
+        updatePersistentList(toInsert.size(), list -> {
+            for (int i = 0; i < toInsert.size(); i++) {
+                list = list.withInserted(positions.get(i), toInsert.get(i));
+            }
+            return list;
+        });
+        if (!positions.isEmpty()) {
+            firstStalePosition = Math.min(firstStalePosition, positions.get(0));
+        }
+    }
+
+    /**
+     * Replaces each target person (key) in {@code replacements} with its edited person (value), in the iteration
+     * order of {@code replacements}. A replacement is skipped if its target is not in the list, or if its edited
+     * person has the same identity as another person in the list. The accepted replacements are applied with a
+     * single list change.
+     *
+     * @return the outcome for each target in {@code replacements}, in the same iteration order.
+     */
+    public Map<Person, MutationOutcome> setAll(Map<Person, Person> replacements) {
+        requireAllNonNull(replacements.keySet());
+        requireAllNonNull(replacements.values());
+        Map<Person, MutationOutcome> outcomes = new LinkedHashMap<>();
+        Set<Person> editedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> updatedList = new ArrayList<>(internalList);
+        List<Integer> updatedPositions = new ArrayList<>();
+        // Positions must not be rebuilt from internalList while the batch is staged in updatedList
+        refreshPositions();
+
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            int position = positionOf(replacement.getKey());
+            Person existing = position == -1 ? null : updatedList.get(position);
+            Person editedPerson = replacement.getValue();
+            if (existing == null || editedPersons.contains(existing)) {
+                outcomes.put(replacement.getKey(), MutationOutcome.NOT_FOUND);
+            } else if (isClaimedByOther(personsByPhone.get(phoneKey(editedPerson)), existing)
+                    || isClaimedByOther(personsByEmail.get(emailKey(editedPerson)), existing)) {
+                outcomes.put(replacement.getKey(), MutationOutcome.DUPLICATE);
+            } else {
+                unindex(existing);
+                index(editedPerson);
+                positionsById.remove(existing.getId());
+                positionsById.put(editedPerson.getId(), position);
+                updatedList.set(position, editedPerson);
+                updatedPositions.add(position);
+                editedPersons.add(editedPerson);
+                outcomes.put(replacement.getKey(), MutationOutcome.APPLIED);
+            }
+        }
+
+        if (outcomes.containsValue(MutationOutcome.APPLIED)) {
+            internalList.setAll(updatedList);
+            updatePersistentList(updatedPositions.size(), list -> {
+                for (int position : updatedPositions) {
+                    list = list.withSet(position, updatedList.get(position));
+                }
+                return list;
+            });
+        }
+        return outcomes;
+    }
+
+    /**
+     * Removes the equivalent of every person in {@code toRemove} from the list with a single list change.
+     * A person that is not in the list, or that appears again after it was already removed, is skipped.
+     *
+     * @return the outcome for each person in {@code toRemove}, in the same order.
+     */
+    public List<MutationOutcome> removeAll(List<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        List<MutationOutcome> outcomes = new ArrayList<>(toRemove.size());
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Integer> removedPositions = new ArrayList<>();
+        int firstRemovedPosition = Integer.MAX_VALUE;
+        for (Person person : toRemove) {
+            int position = positionOf(person);
+            if (position != -1 && removed.add(internalList.get(position))) {
+                removedPositions.add(position);
+                firstRemovedPosition = Math.min(firstRemovedPosition, position);
+                outcomes.add(MutationOutcome.APPLIED);
+            } else {
+                outcomes.add(MutationOutcome.NOT_FOUND);
+            }
+        }
+
+        internalList.removeAll(removed);
+        // Removing from the back first keeps the positions of the persons still to be removed valid
+        removedPositions.sort(Comparator.reverseOrder());
+        updatePersistentList(removedPositions.size(), list -> {
+            for (int position : removedPositions) {
+                list = list.withRemoved(position);
+            }
+            return list;
+        });
+        for (Person person : removed) {
+            unindex(person);
+            positionsById.remove(person.getId());
+        }
+        firstStalePosition = Math.min(firstStalePosition, firstRemovedPosition);
+        return outcomes;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        personsByPhone.clear();
+        personsByPhone.putAll(replacement.personsByPhone);
+        personsByEmail.clear();
+        personsByEmail.putAll(replacement.personsByEmail);
         internalList.setAll(replacement.internalList);
+        persistentList = replacement.persistentList;
+        rebuildPositions();
     }
 
     /**
@@ -91,11 +336,21 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<String, Person> newPersonsByPhone = new HashMap<>();
+        Map<String, Person> newPersonsByEmail = new HashMap<>();
+        if (!personsAreUnique(persons, newPersonsByPhone, newPersonsByEmail)) {
             throw new DuplicatePersonException();
         }
 
+        personsByPhone.clear();
+        personsByPhone.putAll(newPersonsByPhone);
+        personsByEmail.clear();
+        personsByEmail.putAll(newPersonsByEmail);
         internalList.setAll(persons);
+        persistentList = persons instanceof PersistentList
+                ? (PersistentList<Person>) persons
+                : PersistentList.copyOf(persons);
+        rebuildPositions();
     }
 
     /**
@@ -109,6 +364,8 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void sort(Comparator<Person> comparator) {
         internalList.sort(comparator);
+        persistentList = PersistentList.copyOf(internalList);
+        rebuildPositions();
     }
 
     /**
@@ -118,6 +375,14 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the persons currently in the list as an immutable list, in O(1) time. It shares most of its structure
+     * with the lists returned before and after later changes, so many of them can be kept at little cost.
+     */
+    public PersistentList<Person> asPersistentList() {
+        return persistentList;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -150,15 +415,102 @@ public class UniquePersonList implements Iterable<Person> {
 
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * The phone and email indexes of {@code persons} are built into the given maps along the way.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static boolean personsAreUnique(List<Person> persons, Map<String, Person> byPhone,
+            Map<String, Person> byEmail) {
+        for (Person person : persons) {
+            if (byPhone.putIfAbsent(phoneKey(person), person) != null
+                    || byEmail.putIfAbsent(emailKey(person), person) != null) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the position of the person in the list that {@code person} refers to, or -1 if there is none.
+     * The person with the same id is preferred; otherwise the person equal to {@code person} is looked up through
+     * the phone index.
+     */
+    private int positionOf(Person person) {
+        int position = positionOfId(person.getId());
+        if (position != -1) {
+            return position;
+        }
+
+        Person existing = personsByPhone.get(phoneKey(person));
+        return existing != null && existing.equals(person) ? positionOfId(existing.getId()) : -1;
+    }
+
+    private int positionOfId(long id) {
+        Integer position = positionsById.get(id);
+        if (position != null && position >= firstStalePosition) {
+            refreshPositions();
+            position = positionsById.get(id);
+        }
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Brings the stale part of {@code positionsById} up to date with the backing list.
+     */
+    private void refreshPositions() {
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
+        firstStalePosition = Integer.MAX_VALUE;
+    }
+
+    private void rebuildPositions() {
+        positionsById.clear();
+        firstStalePosition = 0;
+        refreshPositions();
+    }
+
+    /**
+     * Brings the persistent list up to date after {@code changeCount} persons in the backing list were changed,
+     * either by making those changes to it with {@code makeChanges}, or by rebuilding it from the backing list if
+     * that is cheaper.
+     */
+    private void updatePersistentList(int changeCount, UnaryOperator<PersistentList<Person>> makeChanges) {
+        int size = internalList.size();
+        int log2Size = Integer.SIZE - Integer.numberOfLeadingZeros(size);
+        if ((long) changeCount * log2Size > size) {
+            persistentList = PersistentList.copyOf(internalList);
+        } else {
+            persistentList = makeChanges.apply(persistentList);
+        }
+    }
+
+    private void index(Person person) {
+        personsByPhone.put(phoneKey(person), person);
+        personsByEmail.put(emailKey(person), person);
+    }
+
+    private void unindex(Person person) {
+        personsByPhone.remove(phoneKey(person), person);
+        personsByEmail.remove(emailKey(person), person);
+    }
+
+    /**
+     * Returns true if {@code owner} is an indexed person other than {@code self}.
+     */
+    private static boolean isClaimedByOther(Person owner, Person self) {
+        return owner != null && owner != self;
+    }
+
+    /**
+     * Returns the phone index key of {@code person}, matching {@code Phone#equals(Object)}.
+     */
+    private static String phoneKey(Person person) {
+        return person.getPhone().value;
+    }
+
+    /**
+     * Returns the email index key of {@code person}, matching the case-insensitive {@code Email#equals(Object)}.
+     */
+    private static String emailKey(Person person) {
+        return person.getEmail().value.toLowerCase();
+    }
 }
@@ -5,7 +5,9 @@ package seedu.address.model.person.exceptions;
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    public static final String MESSAGE_DUPLICATE_PERSON = "Operation would result in duplicate persons";
+
     public DuplicatePersonException() {
-        super("Operation would result in duplicate persons");
+        super(MESSAGE_DUPLICATE_PERSON);
     }
 }
@@ -3,6 +3,9 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -14,6 +17,7 @@ public class Tag implements Comparable<Tag> {
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
     public final String tagName;
+    private final String searchKey;
 
     /**
      * Constructs a {@code Tag}.
@@ -24,13 +28,14 @@ public class Tag implements Comparable<Tag> {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.searchKey = StringUtil.toSearchKey(tagName);
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test);
     }
 
     @Override
@@ -69,4 +74,13 @@ public class Tag implements Comparable<Tag> {
         return this.tagName;
     }
 
+    /**
+     * Returns the key that this tag is searched by.
+     *
+     * @see StringUtil#toSearchKey(String)
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
 }
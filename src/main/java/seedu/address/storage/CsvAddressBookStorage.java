@@ -3,11 +3,14 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 
@@ -15,10 +18,12 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 
 /**
  * A class to access AddressBook data stored as a CSV file on the hard disk.
+ * Persons are written to the file one row at a time.
  */
 public class CsvAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(CsvAddressBookStorage.class);
@@ -57,19 +62,37 @@ public class CsvAddressBookStorage implements AddressBookStorage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveAddressBook(addressBook, filePath, ExportProgress.NONE);
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath}, reporting each person written to {@code progress}.
+     *
+     * @throws CancellationException if {@code progress} is cancelled before every person is written, in which case
+     *     the partly written file is deleted.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, ExportProgress progress)
+            throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
+        requireNonNull(progress);
 
         // Ensure file/directory exists
         FileUtil.createIfMissing(filePath);
 
-        // Convert AddressBook -> CsvSerializableAddressBook -> List<CsvAdaptedPerson>
-        CsvSerializableAddressBook csvAddressBook = new CsvSerializableAddressBook(addressBook);
-        List<CsvAdaptedPerson> persons = csvAddressBook.getPersons();
-
-        // Write them out using Jackson CSV
+        // Convert and write each Person -> CsvAdaptedPerson in turn, so only one row is held at a time
+        List<Person> persons = addressBook.getPersonList();
         CsvSchema schema = csvMapper.schemaFor(CsvAdaptedPerson.class).withHeader();
-        csvMapper.writer(schema).writeValue(filePath.toFile(), persons);
+        try (SequenceWriter writer = csvMapper.writer(schema).writeValues(filePath.toFile())) {
+            for (int i = 0; i < persons.size() && !progress.isCancelled(); i++) {
+                writer.write(new CsvAdaptedPerson(persons.get(i)));
+                progress.recordWritten(i + 1, persons.size());
+            }
+        }
+        if (progress.isCancelled()) {
+            Files.deleteIfExists(filePath);
+            throw new CancellationException("Export to " + filePath.toAbsolutePath() + " was cancelled");
+        }
         checkFileCreated(filePath);
     }
 
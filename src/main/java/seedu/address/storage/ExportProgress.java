@@ -0,0 +1,31 @@
+package seedu.address.storage;
+
+/**
+ * Tracks an export of an address book to a file as it is written, and lets it be cancelled part way.
+ */
+public interface ExportProgress {
+
+    /** Tracks nothing, and is never cancelled. */
+    ExportProgress NONE = new ExportProgress() {
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public void recordWritten(int writtenCount, int totalCount) {
+            // nothing to track
+        }
+    };
+
+    /**
+     * Returns true if the export should stop before writing any more persons.
+     */
+    boolean isCancelled();
+
+    /**
+     * Records that {@code writtenCount} of the {@code totalCount} persons being exported have been written.
+     */
+    void recordWritten(int writtenCount, int totalCount);
+
+}
@@ -0,0 +1,372 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.PersonMutation;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file plus an append-only journal of the changes made
+ * since the snapshot was written.
+ *
+ * Saving changes appends one json record per change to the journal instead of rewriting the whole snapshot. Once
+ * the journal grows past a size threshold, it is compacted in the background: the journal is set aside, a new
+ * snapshot that includes every record in it is written to a temporary file and moved over the old snapshot, and the
+ * set-aside journal is deleted. Each record is numbered, and the snapshot remembers the number of the last record
+ * it includes, so a crash at any point of a compaction leaves files that read back as the last saved address book.
+ *
+ * Address books passed to {@link #saveAddressBookChanges} must not change afterwards, as they may be compacted
+ * into a snapshot on another thread.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_EXTENSION = ".journal";
+    public static final String COMPACTING_JOURNAL_EXTENSION = ".journal.old";
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    public static final String MESSAGE_INCONSISTENT_RECORD =
+            "Journal record %d cannot be applied to the address book: %s";
+
+    private static final String COMPACTED_SNAPSHOT_TEMP_EXTENSION = ".compacted.tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final boolean isPrettyPrinted;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The fields below are guarded by this storage's lock
+    // Whether nextSequence follows on from the records in the journal of filePath
+    private boolean isJournalOpen;
+    private long nextSequence;
+    // Incremented by every full save, which makes the snapshot of any compaction that is still running obsolete
+    private long fullSaveCount;
+    private boolean isCompacting;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, true);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts the journal once it reaches
+     * {@code compactionThreshold} bytes, and writes indented snapshots if {@code isPrettyPrinted}.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThreshold, boolean isPrettyPrinted) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return withExtension(filePath, JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Returns true if there is a journal for the snapshot at {@code filePath}.
+     */
+    public static boolean hasJournal(Path filePath) {
+        return Files.exists(getJournalPath(filePath))
+                || Files.exists(withExtension(filePath, COMPACTING_JOURNAL_EXTENSION));
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal onto it.
+     * An incomplete record at the end of a journal, left by an interrupted save, is discarded.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            Optional<JsonAddressBookFile> snapshot = JsonAddressBookFile.read(filePath);
+            if (!snapshot.isPresent() && !hasJournal(filePath)) {
+                return Optional.empty();
+            }
+
+            AddressBook addressBook = snapshot.map(JsonAddressBookFile::getAddressBook).orElseGet(AddressBook::new);
+            long lastSequence = snapshot.flatMap(JsonAddressBookFile::getJournalSequence).orElse(-1L);
+            lastSequence = replayJournal(withExtension(filePath, COMPACTING_JOURNAL_EXTENSION), addressBook,
+                    lastSequence);
+            lastSequence = replayJournal(getJournalPath(filePath), addressBook, lastSequence);
+
+            if (filePath.equals(this.filePath)) {
+                nextSequence = lastSequence + 1;
+                isJournalOpen = true;
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading " + filePath + " or its journal: " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Applies the records of the journal at {@code journal} numbered after {@code lastSequence} to
+     * {@code addressBook}, and returns the number of the last record applied.
+     */
+    private long replayJournal(Path journal, AddressBook addressBook, long lastSequence)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journal)) {
+            return lastSequence;
+        }
+
+        String content = Files.readString(journal, UTF_8);
+        int lineStart = 0;
+        int replayedCount = 0;
+        while (lineStart < content.length()) {
+            int lineEnd = content.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                discardIncompleteRecord(journal, content.substring(0, lineStart));
+                break;
+            }
+
+            String line = content.substring(lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedPersonMutation record = JsonUtil.fromJsonString(line, JsonAdaptedPersonMutation.class);
+            if (record.getSeq() <= lastSequence) {
+                continue;
+            }
+            try {
+                record.toModelType().applyTo(addressBook);
+            } catch (DuplicatePersonException | PersonNotFoundException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INCONSISTENT_RECORD, record.getSeq(),
+                        e.getMessage()));
+            }
+            lastSequence = record.getSeq();
+            replayedCount++;
+        }
+
+        logger.info("Replayed " + replayedCount + " journal records from " + journal);
+        return lastSequence;
+    }
+
+    /**
+     * Truncates {@code journal} to its {@code completeRecords}, so that later records are not appended to the
+     * incomplete one.
+     */
+    private static void discardIncompleteRecord(Path journal, String completeRecords) throws IOException {
+        logger.warning("Discarding incomplete last record of " + journal);
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+            channel.truncate(completeRecords.getBytes(UTF_8).length);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot at {@code filePath}. If {@code filePath} is this storage's file,
+     * its journal is emptied as the snapshot includes every change in it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            JsonAddressBookFile.replace(addressBook, null, filePath, isPrettyPrinted);
+            return;
+        }
+
+        synchronized (this) {
+            if (!isJournalOpen) {
+                nextSequence = findLastSequence() + 1;
+            }
+            JsonAddressBookFile.replace(addressBook, nextSequence - 1, filePath, isPrettyPrinted);
+            Files.deleteIfExists(getJournalPath(filePath));
+            Files.deleteIfExists(withExtension(filePath, COMPACTING_JOURNAL_EXTENSION));
+            fullSaveCount++;
+            isJournalOpen = true;
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal, starting a compaction if the journal has grown past the threshold.
+     * If the journal has not been read or written by this storage yet, the whole address book is saved instead.
+     */
+    @Override
+    public synchronized void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<PersonMutation> changes)
+            throws IOException {
+        requireAllNonNull(addressBook, changes);
+
+        if (!isJournalOpen) {
+            logger.info("Journal of " + filePath + " is not open, saving the whole address book");
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        long sequence = nextSequence;
+        for (PersonMutation change : changes) {
+            records.append(JsonUtil.toCompactJsonString(new JsonAdaptedPersonMutation(sequence++, change)))
+                    .append('\n');
+        }
+
+        Path journal = getJournalPath(filePath);
+        try {
+            FileUtil.createParentDirsOfFile(journal);
+            Files.writeString(journal, records, UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ioe) {
+            // Some of the records may have been written, so the journal can no longer be continued safely
+            isJournalOpen = false;
+            throw ioe;
+        }
+        nextSequence = sequence;
+
+        if (Files.size(journal) >= compactionThreshold && !isCompacting) {
+            startCompaction(addressBook);
+        }
+    }
+
+    /**
+     * Sets the journal aside and writes a snapshot of {@code addressBook}, which includes every record in it,
+     * on the compactor thread.
+     */
+    private void startCompaction(ReadOnlyAddressBook addressBook) throws IOException {
+        assert Thread.holdsLock(this);
+        Path journal = getJournalPath(filePath);
+        Path compactingJournal = withExtension(filePath, COMPACTING_JOURNAL_EXTENSION);
+        if (Files.exists(compactingJournal)) {
+            // An earlier compaction failed, so the new snapshot has to cover its records too
+            Files.write(compactingJournal, Files.readAllBytes(journal), StandardOpenOption.APPEND);
+            Files.delete(journal);
+        } else {
+            Files.move(journal, compactingJournal);
+        }
+
+        long sequence = nextSequence - 1;
+        long generation = fullSaveCount;
+        isCompacting = true;
+        logger.info("Compacting journal of " + filePath + " up to record " + sequence);
+        compactor.execute(() -> compact(addressBook, sequence, generation));
+    }
+
+    private void compact(ReadOnlyAddressBook addressBook, long sequence, long generation) {
+        Path tempFile = withExtension(filePath, COMPACTED_SNAPSHOT_TEMP_EXTENSION);
+        try {
+            JsonAddressBookFile.write(addressBook, sequence, tempFile, isPrettyPrinted);
+            synchronized (this) {
+                if (generation == fullSaveCount) {
+                    JsonAddressBookFile.moveIntoPlace(tempFile, filePath);
+                    Files.deleteIfExists(withExtension(filePath, COMPACTING_JOURNAL_EXTENSION));
+                    logger.info("Compacted journal of " + filePath + " up to record " + sequence);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Compaction of journal of " + filePath + " failed: " + StringUtil.getDetails(ioe));
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+            }
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ioe) {
+                logger.warning("Could not delete " + tempFile + ": " + StringUtil.getDetails(ioe));
+            }
+        }
+    }
+
+    /**
+     * Waits until any compaction that has been started has finished.
+     */
+    void awaitCompaction() throws IOException {
+        try {
+            compactor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the journal to be compacted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the number of the last record in the journals of this storage's file, or -1 if they have none.
+     */
+    private long findLastSequence() throws IOException {
+        long lastSequence = -1;
+        for (Path journal : List.of(withExtension(filePath, COMPACTING_JOURNAL_EXTENSION), getJournalPath(filePath))) {
+            if (!Files.exists(journal)) {
+                continue;
+            }
+            try (Stream<String> lines = Files.lines(journal, UTF_8)) {
+                lastSequence = Math.max(lastSequence, lines.mapToLong(JournaledAddressBookStorage::sequenceOf)
+                        .max().orElse(-1));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        return lastSequence;
+    }
+
+    private static long sequenceOf(String record) {
+        try {
+            return JsonUtil.fromJsonString(record, JsonAdaptedPersonMutation.class).getSeq();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static Path withExtension(Path filePath, String extension) {
+        return filePath.resolveSibling(filePath.getFileName() + extension);
+    }
+
+}
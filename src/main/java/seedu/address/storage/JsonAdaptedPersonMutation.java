@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.PersonMutation;
+
+/**
+ * Jackson-friendly version of {@link PersonMutation}, numbered by its position in a journal.
+ */
+class JsonAdaptedPersonMutation {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_INVALID_TYPE = "Journal record has an unknown type: %s";
+
+    private final long seq;
+    private final String type;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedPerson target;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonMutation} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonMutation(@JsonProperty("seq") long seq, @JsonProperty("type") String type,
+                                     @JsonProperty("target") JsonAdaptedPerson target,
+                                     @JsonProperty("person") JsonAdaptedPerson person) {
+        this.seq = seq;
+        this.type = type;
+        this.target = target;
+        this.person = person;
+    }
+
+    /**
+     * Converts a given {@code PersonMutation} into this class for Jackson use.
+     */
+    public JsonAdaptedPersonMutation(long seq, PersonMutation source) {
+        this.seq = seq;
+        type = source.getType().name();
+        target = source.getTarget() == null ? null : new JsonAdaptedPerson(source.getTarget());
+        person = new JsonAdaptedPerson(source.getPerson());
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted mutation object into the model's {@code PersonMutation} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted mutation.
+     */
+    public PersonMutation toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+
+        PersonMutation.Type modelType;
+        try {
+            modelType = PersonMutation.Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+
+        switch (modelType) {
+        case ADD:
+            return PersonMutation.add(person.toModelType());
+        case REMOVE:
+            return PersonMutation.remove(person.toModelType());
+        case SET:
+            if (target == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+            }
+            return PersonMutation.set(target.toModelType(), person.toModelType());
+        default:
+            throw new AssertionError("Unknown mutation type: " + modelType);
+        }
+    }
+
+}
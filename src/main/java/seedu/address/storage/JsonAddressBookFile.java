@@ -0,0 +1,245 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Streams an address book to and from a json file in the format of {@link JsonSerializableAddressBook}, one person
+ * at a time, so that neither the json text nor a list of every {@link JsonAdaptedPerson} is held in memory at once.
+ * A journaled address book also has a {@code journalSequence} field, with the number of the last journal record
+ * included in its persons.
+ *
+ * When reading, persons are parsed in batches, and each batch is converted to {@code Person}s (which validates
+ * every field) in parallel on the common fork-join pool while the parser moves on to the next batch.
+ */
+class JsonAddressBookFile {
+
+    static final int CONVERSION_BATCH_SIZE = 4096;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookFile.class);
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    private final AddressBook addressBook;
+    private final Long journalSequence;
+
+    private JsonAddressBookFile(AddressBook addressBook, Long journalSequence) {
+        this.addressBook = addressBook;
+        this.journalSequence = journalSequence;
+    }
+
+    public AddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    /**
+     * Returns the sequence number of the last journal record included in the address book, if the file has one.
+     */
+    public Optional<Long> getJournalSequence() {
+        return Optional.ofNullable(journalSequence);
+    }
+
+    /**
+     * Reads the address book in the json file at {@code filePath}, or returns {@code Optional.empty()} if there is
+     * no such file.
+     *
+     * @throws IOException if the file is not a valid json address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<JsonAddressBookFile> read(Path filePath) throws IOException, IllegalValueException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        long startTime = System.nanoTime();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            List<Person> persons = new ArrayList<>();
+            Long journalSequence = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName)) {
+                    expect(parser, valueToken, JsonToken.START_ARRAY);
+                    persons = readPersons(parser);
+                } else if (JOURNAL_SEQUENCE_FIELD.equals(fieldName) && valueToken.isNumeric()) {
+                    journalSequence = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+            long parsedTime = System.nanoTime();
+
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setPersons(persons);
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            logger.info(String.format("Read %d persons from %s in %d ms (%d ms parsing and converting, %d ms indexing)",
+                    persons.size(), filePath, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime),
+                    TimeUnit.NANOSECONDS.toMillis(parsedTime - startTime),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - parsedTime)));
+            return Optional.of(new JsonAddressBookFile(addressBook, journalSequence));
+        }
+    }
+
+    /**
+     * Reads the elements of the persons array that {@code parser} is at the start of, and returns them as
+     * {@code Person}s in the same order.
+     *
+     * @throws IllegalValueException for the first element, in order, that violates a data constraint.
+     */
+    private static List<Person> readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        List<JsonAdaptedPerson> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+        ForkJoinTask<List<Person>> conversion = null;
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            expect(parser, token, JsonToken.START_OBJECT);
+            batch.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+            if (batch.size() == CONVERSION_BATCH_SIZE) {
+                if (conversion != null) {
+                    persons.addAll(awaitConversion(conversion));
+                }
+                List<JsonAdaptedPerson> parsedBatch = batch;
+                conversion = ForkJoinPool.commonPool().submit(() -> toPersons(parsedBatch));
+                batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+            }
+        }
+
+        if (conversion != null) {
+            persons.addAll(awaitConversion(conversion));
+        }
+        persons.addAll(toPersons(batch));
+        return persons;
+    }
+
+    /**
+     * Converts {@code batch} to {@code Person}s in parallel, keeping their order.
+     *
+     * @throws IllegalValueException for the first element, in order, that violates a data constraint.
+     */
+    private static List<Person> toPersons(List<JsonAdaptedPerson> batch) throws IllegalValueException {
+        Person[] persons = new Person[batch.size()];
+        IllegalValueException[] errors = new IllegalValueException[batch.size()];
+        IntStream.range(0, batch.size()).parallel().forEach(i -> {
+            try {
+                persons[i] = batch.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+
+        for (IllegalValueException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+        return Arrays.asList(persons);
+    }
+
+    private static List<Person> awaitConversion(ForkJoinTask<List<Person>> conversion)
+            throws IOException, IllegalValueException {
+        try {
+            return conversion.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while converting persons");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to a temporary file beside {@code filePath}, then moves it over {@code filePath}, so
+     * that a write that fails partway leaves any existing file at {@code filePath} whole.
+     *
+     * @see #write(ReadOnlyAddressBook, Long, Path, boolean)
+     */
+    public static void replace(ReadOnlyAddressBook addressBook, Long journalSequence, Path filePath,
+            boolean isPrettyPrinted) throws IOException {
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + TEMP_EXTENSION);
+        try {
+            write(addressBook, journalSequence, tempFile, isPrettyPrinted);
+            moveIntoPlace(tempFile, filePath);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Moves the file at {@code source} over {@code target} atomically, where the file system supports it.
+     */
+    static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to the json file at {@code filePath}, overwriting the file if it exists.
+     *
+     * @param journalSequence the sequence number of the last journal record included in {@code addressBook}, or
+     *     null if it is not journaled.
+     * @param isPrettyPrinted whether the json is indented over multiple lines, or written compactly.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Long journalSequence, Path filePath,
+            boolean isPrettyPrinted) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            if (journalSequence != null) {
+                generator.writeNumberField(JOURNAL_SEQUENCE_FIELD, journalSequence);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+}
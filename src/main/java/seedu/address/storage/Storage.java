@@ -2,9 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.PersonMutation;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -29,4 +32,30 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves {@code addressBook} on a background thread. {@code addressBook} must not change afterwards.
+     * Saves requested while an earlier one is still waiting to be written are coalesced, so that only the most
+     * recently requested address book is written.
+     *
+     * @param onFailure called on the background thread if the save fails.
+     */
+    void saveAddressBookInBackground(ReadOnlyAddressBook addressBook, Consumer<IOException> onFailure);
+
+    /**
+     * Saves {@code addressBook}, which is the previously requested address book with {@code changes} applied to it,
+     * on a background thread, as {@link #saveAddressBookChanges} would.
+     * Coalesced saves record the changes of every coalesced request, or the whole address book if any of them did.
+     *
+     * @param onFailure called on the background thread if the save fails.
+     */
+    void saveAddressBookChangesInBackground(ReadOnlyAddressBook addressBook, List<PersonMutation> changes,
+            Consumer<IOException> onFailure);
+
+    /**
+     * Waits until every address book requested by {@link #saveAddressBookInBackground} has been written.
+     *
+     * @throws IOException if the last background save failed, or if interrupted while waiting.
+     */
+    void flushAddressBook() throws IOException;
+
 }
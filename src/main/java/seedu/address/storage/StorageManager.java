@@ -1,18 +1,31 @@
 package seedu.address.storage;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.PersonMutation;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Address books can also be saved by a single background thread, which coalesces bursts of save requests.
  */
 public class StorageManager implements Storage {
 
@@ -20,6 +33,15 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService addressBookSaver = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // The most recently requested background save that has not started yet
+    private final AtomicReference<PendingSave> pendingSave = new AtomicReference<>();
+    private volatile IOException lastBackgroundSaveFailure;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -75,4 +97,102 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<PersonMutation> changes)
+            throws IOException {
+        logger.fine("Attempting to write " + changes.size() + " changes to data file: " + getAddressBookFilePath());
+        addressBookStorage.saveAddressBookChanges(addressBook, changes);
+    }
+
+    @Override
+    public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook, Consumer<IOException> onFailure) {
+        requireAllNonNull(addressBook, onFailure);
+        requestBackgroundSave(new PendingSave(addressBook, null, onFailure));
+    }
+
+    @Override
+    public void saveAddressBookChangesInBackground(ReadOnlyAddressBook addressBook, List<PersonMutation> changes,
+            Consumer<IOException> onFailure) {
+        requireAllNonNull(addressBook, changes, onFailure);
+        requestBackgroundSave(new PendingSave(addressBook, changes, onFailure));
+    }
+
+    private void requestBackgroundSave(PendingSave save) {
+        if (pendingSave.getAndUpdate(waiting -> save.coalesceWith(waiting)) == null) {
+            addressBookSaver.execute(this::savePendingAddressBook);
+        } else {
+            logger.fine("Coalescing background save with the one still waiting to be written");
+        }
+    }
+
+    private void savePendingAddressBook() {
+        PendingSave save = pendingSave.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+
+        try {
+            if (save.changes == null) {
+                saveAddressBook(save.addressBook);
+            } else {
+                saveAddressBookChanges(save.addressBook, save.changes);
+            }
+            lastBackgroundSaveFailure = null;
+        } catch (IOException e) {
+            logger.warning("Background save of address book failed: " + StringUtil.getDetails(e));
+            lastBackgroundSaveFailure = e;
+            save.onFailure.accept(e);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        try {
+            // The saver runs tasks in order, so every save requested before this one has finished after it
+            addressBookSaver.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+
+        IOException failure = lastBackgroundSaveFailure;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * An address book waiting to be saved in the background, with the changes since the previous save if only
+     * those need to be recorded.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final List<PersonMutation> changes;
+        private final Consumer<IOException> onFailure;
+
+        PendingSave(ReadOnlyAddressBook addressBook, List<PersonMutation> changes, Consumer<IOException> onFailure) {
+            this.addressBook = addressBook;
+            this.changes = changes;
+            this.onFailure = onFailure;
+        }
+
+        /**
+         * Returns the save that replaces both {@code earlier}, which is still waiting to be written, and this save.
+         */
+        PendingSave coalesceWith(PendingSave earlier) {
+            if (earlier == null) {
+                return this;
+            }
+            if (earlier.changes == null || changes == null) {
+                return new PendingSave(addressBook, null, onFailure);
+            }
+
+            List<PersonMutation> allChanges = new ArrayList<>(earlier.changes);
+            allChanges.addAll(changes);
+            return new PendingSave(addressBook, allChanges, onFailure);
+        }
+    }
+
 }
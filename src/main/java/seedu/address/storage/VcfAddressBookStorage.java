@@ -3,20 +3,24 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.logging.Logger;
 
-import ezvcard.Ezvcard;
-import ezvcard.VCard;
+import ezvcard.VCardVersion;
+import ezvcard.io.text.VCardWriter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a VCF file on the hard disk.
+ * Persons are written to the file one card at a time.
  */
 public class VcfAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(VcfAddressBookStorage.class);
@@ -49,19 +53,36 @@ public class VcfAddressBookStorage implements AddressBookStorage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveAddressBook(addressBook, filePath, ExportProgress.NONE);
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath}, reporting each person written to {@code progress}.
+     *
+     * @throws CancellationException if {@code progress} is cancelled before every person is written, in which case
+     *     the partly written file is deleted.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, ExportProgress progress)
+            throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
+        requireNonNull(progress);
 
         // Ensure file/directory exists
         FileUtil.createIfMissing(filePath);
 
-        // Convert AddressBook -> VcfSerializableAddressBook -> List<VcfAdaptedPerson>
-        VcfSerializableAddressBook csvAddressBook = new VcfSerializableAddressBook(addressBook);
-        List<VcfAdaptedPerson> persons = csvAddressBook.getPersons();
-
-        // Write to VCF file
-        List<VCard> vcards = VcfMapper.mapToVcards(persons);
-        Ezvcard.write(vcards).go(filePath.toFile());
+        // Convert and write each Person -> VcfAdaptedPerson -> VCard in turn, so only one card is held at a time
+        List<Person> persons = addressBook.getPersonList();
+        try (VCardWriter writer = new VCardWriter(filePath.toFile(), VCardVersion.V3_0)) {
+            for (int i = 0; i < persons.size() && !progress.isCancelled(); i++) {
+                writer.write(VcfMapper.toVcard(new VcfAdaptedPerson(persons.get(i))));
+                progress.recordWritten(i + 1, persons.size());
+            }
+        }
+        if (progress.isCancelled()) {
+            Files.deleteIfExists(filePath);
+            throw new CancellationException("Export to " + filePath.toAbsolutePath() + " was cancelled");
+        }
         checkFileCreated(filePath);
     }
 
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,6 +14,7 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.BackgroundExporter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -24,6 +27,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_EXPORT_PROGRESS = "Exporting %1$s: %2$d/%3$d";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -115,9 +119,26 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.enableBackgroundSaving(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.enableBackgroundExports(new BackgroundExporter.ExportListener() {
+            @Override
+            public void exportProgressed(Path filePath, int writtenCount, int totalCount) {
+                String status = String.format(MESSAGE_EXPORT_PROGRESS,
+                        filePath.getFileName(), writtenCount, totalCount);
+                Platform.runLater(() -> statusBarFooter.setExportStatus(status));
+            }
+
+            @Override
+            public void exportFinished(Path filePath, String message) {
+                Platform.runLater(() -> {
+                    statusBarFooter.setExportStatus("");
+                    resultDisplay.setFeedbackToUser(message);
+                });
+            }
+        });
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -0,0 +1,130 @@
+package seedu.address;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+
+public class HeadlessMainTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+            + ADDRESS_DESC_AMY + ROLE_DESC_AMY;
+    private static final String DELETE_MISSING = DeleteCommand.COMMAND_WORD + " 999";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Path configPath;
+    private Path addressBookPath;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        configPath = temporaryFolder.resolve("config.json");
+        addressBookPath = temporaryFolder.resolve("addressbook.json");
+        Path userPrefsPath = temporaryFolder.resolve("preferences.json");
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsPath);
+        ConfigUtil.saveConfig(config, configPath);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookPath);
+        new JsonUserPrefsStorage(userPrefsPath).saveUserPrefs(userPrefs);
+    }
+
+    private int run(String input, String... args) {
+        String[] allArgs = new String[args.length + 1];
+        allArgs[0] = "--config=" + configPath;
+        System.arraycopy(args, 0, allArgs, 1, args.length);
+        return HeadlessMain.run(allArgs, new ByteArrayInputStream(input.getBytes(UTF_8)),
+                new PrintStream(out, true, UTF_8), new PrintStream(err, true, UTF_8));
+    }
+
+    private boolean isAmySaved() throws Exception {
+        ReadOnlyAddressBook addressBook = new JsonAddressBookStorage(addressBookPath).readAddressBook().get();
+        return addressBook.getPersonList().stream()
+                .anyMatch(person -> person.getName().fullName.equals(VALID_NAME_AMY));
+    }
+
+    @Test
+    public void run_commandsFromStandardInput_executedAndSaved() throws Exception {
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run(ADD_AMY + "\n"));
+        assertTrue(out.toString(UTF_8).startsWith(String.format(AddCommand.MESSAGE_SUCCESS, "")));
+        assertTrue(isAmySaved());
+    }
+
+    @Test
+    public void run_commandsFromFile_executedAndSaved() throws Exception {
+        Path commandsPath = temporaryFolder.resolve("commands.txt");
+        Files.writeString(commandsPath, "# nightly import\n" + ADD_AMY + "\n");
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run("", commandsPath.toString()));
+        assertTrue(isAmySaved());
+    }
+
+    @Test
+    public void run_commandFails_failureReported() throws Exception {
+        assertEquals(HeadlessMain.EXIT_COMMAND_FAILED, run(ADD_AMY + "\n" + DELETE_MISSING + "\n"));
+        assertTrue(err.toString(UTF_8).contains(String.format(RunCommand.MESSAGE_FAILED_LINE,
+                2, DELETE_MISSING, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)));
+        assertTrue(isAmySaved());
+    }
+
+    @Test
+    public void run_atomicCommandFails_changesNotSaved() throws Exception {
+        assertEquals(HeadlessMain.EXIT_COMMAND_FAILED,
+                run(ADD_AMY + "\n" + DELETE_MISSING + "\n", HeadlessMain.ATOMIC_OPTION));
+        assertFalse(isAmySaved());
+    }
+
+    @Test
+    public void run_invalidArguments_usageError() {
+        assertEquals(HeadlessMain.EXIT_USAGE_ERROR, run("", "first.txt", "second.txt"));
+        assertEquals(HeadlessMain.EXIT_USAGE_ERROR, run("", "--unknown"));
+        assertTrue(err.toString(UTF_8).contains(HeadlessMain.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void run_corruptDataFile_ioErrorAndNothingRunOrSaved() throws Exception {
+        Files.writeString(addressBookPath, "{ \"persons\": [ not json");
+
+        assertEquals(HeadlessMain.EXIT_IO_ERROR, run(ADD_AMY + "\n"));
+        assertTrue(err.toString(UTF_8).contains("Could not load the address book from " + addressBookPath));
+        assertEquals("", out.toString(UTF_8));
+        assertEquals("{ \"persons\": [ not json", Files.readString(addressBookPath));
+    }
+
+    @Test
+    public void run_missingFile_ioError() {
+        assertEquals(HeadlessMain.EXIT_IO_ERROR, run("", temporaryFolder.resolve("missing.txt").toString()));
+        assertFalse(Files.exists(addressBookPath));
+    }
+}
@@ -0,0 +1,261 @@
+package seedu.address.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HttpApiServerTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+            + ADDRESS_DESC_AMY + ROLE_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+    private HttpApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logic = new LogicManager(new ModelManager(getTypicalAddressBook(), new UserPrefs()), storage);
+        server = new HttpApiServer(logic, writer, 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        writer.shutdown();
+    }
+
+    private HttpRequest.Builder authorized(String pathAndQuery) {
+        return HttpRequest.newBuilder(uri(pathAndQuery)).header("Authorization", "Bearer " + server.getToken());
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString(UTF_8));
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws Exception {
+        return send(authorized(pathAndQuery).GET());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return send(authorized(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private HttpResponse<String> postCommand(String commandText) throws Exception {
+        return post("/api/commands", JsonUtil.toCompactJsonString(Map.of("command", commandText)));
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + pathAndQuery);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> parse(HttpResponse<String> response) throws Exception {
+        return JsonUtil.fromJsonString(response.body(), Map.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> getPersons(Map<String, Object> page) {
+        return (List<Map<String, Object>>) page.get("persons");
+    }
+
+    @Test
+    public void getPersons_page_returnsPage() throws Exception {
+        HttpResponse<String> response = get("/api/persons?offset=1&limit=2");
+        assertEquals(200, response.statusCode());
+
+        Map<String, Object> page = parse(response);
+        assertEquals(getTypicalAddressBook().getPersonList().size(), page.get("total"));
+        assertEquals(1, page.get("offset"));
+        List<Map<String, Object>> persons = getPersons(page);
+        assertEquals(2, persons.size());
+        assertEquals(BENSON.getName().fullName, persons.get(0).get("name"));
+    }
+
+    @Test
+    public void getPersons_invalidPage_badRequest() throws Exception {
+        assertEquals(400, get("/api/persons?offset=-1").statusCode());
+        assertEquals(400, get("/api/persons?limit=" + (HttpApiServer.MAX_PAGE_SIZE + 1)).statusCode());
+        assertEquals(400, get("/api/persons?limit=many").statusCode());
+    }
+
+    @Test
+    public void find_nameKeyword_returnsMatches() throws Exception {
+        HttpResponse<String> response = get("/api/persons/find?q=" + URLEncoder.encode("n/alice", UTF_8));
+        assertEquals(200, response.statusCode());
+
+        List<Map<String, Object>> persons = getPersons(parse(response));
+        assertEquals(1, persons.size());
+        assertEquals(ALICE.getName().fullName, persons.get(0).get("name"));
+
+        assertEquals(400, get("/api/persons/find").statusCode());
+        assertEquals(400, get("/api/persons/find?q=alice").statusCode());
+    }
+
+    @Test
+    public void getByPhoneAndEmail_existingAndMissing() throws Exception {
+        HttpResponse<String> response = get("/api/persons/by-phone/" + ALICE.getPhone().value);
+        assertEquals(200, response.statusCode());
+        assertEquals(ALICE.getEmail().value, parse(response).get("email"));
+
+        response = get("/api/persons/by-email/" + BENSON.getEmail().value.toUpperCase());
+        assertEquals(200, response.statusCode());
+        assertEquals(BENSON.getName().fullName, parse(response).get("name"));
+
+        assertEquals(404, get("/api/persons/by-phone/00000000").statusCode());
+        assertEquals(404, get("/api/persons/unknown").statusCode());
+    }
+
+    @Test
+    public void postCommand_valid_executedAndVisibleToReads() throws Exception {
+        HttpResponse<String> response = postCommand(ADD_AMY);
+        assertEquals(200, response.statusCode());
+        assertEquals(true, parse(response).get("success"));
+
+        response = get("/api/persons/by-phone/" + VALID_PHONE_AMY);
+        assertEquals(200, response.statusCode());
+        assertEquals(VALID_NAME_AMY, parse(response).get("name"));
+    }
+
+    @Test
+    public void postCommand_invalid_badRequest() throws Exception {
+        HttpResponse<String> response = postCommand("delete 999");
+        assertEquals(400, response.statusCode());
+        assertEquals(false, parse(response).get("success"));
+    }
+
+    @Test
+    public void postCommand_notJson_unsupportedMediaType() throws Exception {
+        HttpResponse<String> response = send(authorized("/api/commands").header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofString("clear")));
+        assertEquals(415, response.statusCode());
+        assertEquals(HttpApiServer.MESSAGE_UNSUPPORTED_MEDIA_TYPE, parse(response).get("error"));
+
+        response = send(authorized("/api/commands").POST(HttpRequest.BodyPublishers.ofString("clear")));
+        assertEquals(415, response.statusCode());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), parse(get("/api/persons")).get("total"));
+    }
+
+    @Test
+    public void postCommand_noCommandInBody_badRequest() throws Exception {
+        assertEquals(400, post("/api/commands", "clear").statusCode());
+        assertEquals(400, post("/api/commands", "{}").statusCode());
+        assertEquals(400, post("/api/commands", "{\"command\": \" \"}").statusCode());
+    }
+
+    @Test
+    public void request_missingOrWrongToken_unauthorized() throws Exception {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/persons")).GET());
+        assertEquals(401, response.statusCode());
+        assertEquals(HttpApiServer.MESSAGE_UNAUTHORIZED, parse(response).get("error"));
+
+        assertEquals(401, send(HttpRequest.newBuilder(uri("/api/commands"))
+                .header("Authorization", "Bearer " + server.getToken() + "x")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"clear\"}"))).statusCode());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), parse(get("/api/persons")).get("total"));
+    }
+
+    @Test
+    public void request_fromWebPage_forbidden() throws Exception {
+        HttpResponse<String> response = send(authorized("/api/commands").header("Origin", "https://example.com")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"clear\"}")));
+        assertEquals(403, response.statusCode());
+        assertEquals(HttpApiServer.MESSAGE_FORBIDDEN_ORIGIN, parse(response).get("error"));
+        assertEquals(getTypicalAddressBook().getPersonList().size(), parse(get("/api/persons")).get("total"));
+    }
+
+    @Test
+    public void request_otherHost_forbidden() throws Exception {
+        // The HTTP client always sends the host of the URI, so a rebound host name is sent over a plain socket
+        assertEquals(403, sendWithHost("attacker.example:" + server.getPort()));
+        assertEquals(403, sendWithHost("localhost:" + (server.getPort() + 1)));
+        assertEquals(200, sendWithHost("localhost:" + server.getPort()));
+    }
+
+    private int sendWithHost(String host) throws Exception {
+        try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            OutputStream output = socket.getOutputStream();
+            output.write(("GET /api/persons HTTP/1.1\r\nHost: " + host + "\r\nAuthorization: Bearer "
+                    + server.getToken() + "\r\nConnection: close\r\n\r\n").getBytes(UTF_8));
+            output.flush();
+            InputStream input = socket.getInputStream();
+            String statusLine = new String(input.readAllBytes(), UTF_8).split("\r\n", 2)[0];
+            return Integer.parseInt(statusLine.split(" ")[1]);
+        }
+    }
+
+    @Test
+    public void wrongMethod_methodNotAllowed() throws Exception {
+        assertEquals(405, post("/api/persons", "").statusCode());
+        assertEquals(405, get("/api/commands").statusCode());
+    }
+
+    @Test
+    public void concurrentReadsDuringWrites_eachReadConsistent() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> reads = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String command = ADD_AMY.replace(VALID_PHONE_AMY, String.valueOf(60000000 + i))
+                    .replace(VALID_EMAIL_AMY, "amy" + i + "@example.com");
+            assertEquals(200, postCommand(command).statusCode());
+            reads.add(client.sendAsync(authorized("/api/persons?limit=1000").GET().build(),
+                    HttpResponse.BodyHandlers.ofString(UTF_8)));
+        }
+
+        for (CompletableFuture<HttpResponse<String>> read : reads) {
+            Map<String, Object> page = parse(read.get());
+            assertEquals(page.get("total"), getPersons(page).size());
+        }
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 20,
+                parse(get("/api/persons?limit=1000")).get("total"));
+    }
+}
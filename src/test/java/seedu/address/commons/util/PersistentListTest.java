@@ -0,0 +1,117 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withRemoved(0));
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(List.of("a", "b")).withAppended(null));
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(nullElementList()));
+    }
+
+    @Test
+    public void copyOf_keepsOrder() {
+        List<Integer> elements = IntStream.range(0, 1000).boxed().toList();
+        PersistentList<Integer> list = PersistentList.copyOf(elements);
+        assertEquals(elements, list);
+        assertEquals(elements, new ArrayList<>(list));
+        assertEquals(elements.hashCode(), list.hashCode());
+    }
+
+    @Test
+    public void changes_leaveEarlierVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+
+        PersistentList<String> set = original.withSet(1, "x");
+        PersistentList<String> inserted = original.withInserted(0, "y");
+        PersistentList<String> appended = original.withAppended("z");
+        PersistentList<String> removed = original.withRemoved(1);
+
+        assertEquals(List.of("a", "b", "c"), original);
+        assertEquals(List.of("a", "x", "c"), set);
+        assertEquals(List.of("y", "a", "b", "c"), inserted);
+        assertEquals(List.of("a", "b", "c", "z"), appended);
+        assertEquals(List.of("a", "c"), removed);
+    }
+
+    @Test
+    public void changes_randomOperations_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.withInserted(index, i);
+            } else if (operation == 1) {
+                expected.add(i);
+                actual = actual.withAppended(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.withSet(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.withRemoved(index);
+            }
+
+            if (i % 500 == 0) {
+                versions.add(actual);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        assertEquals(expectedVersions, versions);
+    }
+
+    @Test
+    public void changes_manyAtOneEnd_stayBalanced() {
+        // An unbalanced tree this large would overflow the stack when changed recursively
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100_000; i++) {
+            list = list.withAppended(i);
+        }
+        for (int i = 0; i < 50_000; i++) {
+            list = list.withRemoved(0);
+        }
+
+        assertEquals(50_000, list.size());
+        assertEquals(50_000, (int) list.get(0));
+        assertEquals(99_999, (int) list.get(list.size() - 1));
+    }
+
+    private static List<String> nullElementList() {
+        List<String> list = new ArrayList<>();
+        list.add("a");
+        list.add(null);
+        return list;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -140,4 +142,37 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for toSearchKey --------------------------------------
+
+    @Test
+    public void toSearchKey_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toSearchKey(null));
+    }
+
+    @Test
+    public void toSearchKey_validInputs_correctResult() {
+        // already a search key
+        String key = "alice bob";
+        assertSame(key, StringUtil.toSearchKey(key));
+
+        // mixed case
+        assertEquals("alice bob", StringUtil.toSearchKey("aLIce BOB"));
+
+        // full-width letters and digits
+        assertEquals("alice1", StringUtil.toSearchKey("\uFF21\uFF4C\uFF49\uFF43\uFF45\uFF11"));
+
+        // dotted capital I is not lower-cased to a dotless i, whatever the default locale
+        assertEquals("idris", StringUtil.toSearchKey("IDRIS"));
+    }
+
+    //---------------- Tests for containsAny --------------------------------------
+
+    @Test
+    public void containsAny() {
+        assertFalse(StringUtil.containsAny("alice bob"));
+        assertFalse(StringUtil.containsAny("alice bob", "carol", "dave"));
+        assertTrue(StringUtil.containsAny("alice bob", "carol", "ce b"));
+        assertTrue(StringUtil.containsAny("alice bob", ""));
+    }
+
 }
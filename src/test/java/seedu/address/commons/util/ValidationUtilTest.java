@@ -0,0 +1,122 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhoneNumberContainsKeywordsPredicate;
+import seedu.address.model.person.Role;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains unit tests for {@code ValidationUtil}, and differential tests that check that the validators of the model
+ * accept exactly the strings their validation regexes match.
+ */
+public class ValidationUtilTest {
+
+    // ASCII and non-ASCII letters, digits, whitespace and punctuation, including the characters that are accepted by
+    // one validator but not another
+    private static final char[] ALPHABET = {'a', 'Z', '0', '9', ' ', '\t', '\n', '_', '-', '.', '@', '+', ',', '#',
+        '/', '\'', '(', ')', '&', ':', ';', '!', '\u00E9', '\u0663', '\u00DF', '\u4E2D', '\u00A0'};
+    private static final int MAX_EXHAUSTIVE_LENGTH = 3;
+    private static final int RANDOM_STRING_COUNT = 20_000;
+    private static final int MAX_RANDOM_LENGTH = 20;
+
+    /**
+     * Returns every string of up to {@code MAX_EXHAUSTIVE_LENGTH} characters of {@code ALPHABET}, followed by random
+     * strings of characters of {@code ALPHABET}, each biased towards one character class so that longer strings are
+     * likely to be accepted by some validator.
+     */
+    private static List<String> getTestStrings() {
+        List<String> strings = new ArrayList<>();
+        strings.add("");
+        for (int length = 1; length <= MAX_EXHAUSTIVE_LENGTH; length++) {
+            int count = (int) Math.pow(ALPHABET.length, length);
+            for (int n = 0; n < count; n++) {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0, rest = n; i < length; i++, rest /= ALPHABET.length) {
+                    sb.append(ALPHABET[rest % ALPHABET.length]);
+                }
+                strings.add(sb.toString());
+            }
+        }
+
+        Random random = new Random(42);
+        String[] biases = {"0123456789", "abcXYZ", "abcXYZ019", "abc XYZ", "abc 019", "abc019.-@"};
+        for (int n = 0; n < RANDOM_STRING_COUNT; n++) {
+            String bias = biases[n % biases.length];
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(MAX_RANDOM_LENGTH + 1);
+            for (int i = 0; i < length; i++) {
+                sb.append(random.nextInt(20) == 0
+                        ? ALPHABET[random.nextInt(ALPHABET.length)]
+                        : bias.charAt(random.nextInt(bias.length())));
+            }
+            strings.add(sb.toString());
+        }
+        return strings;
+    }
+
+    private static void assertSameAsRegex(String regex, Predicate<String> validator) {
+        for (String test : getTestStrings()) {
+            assertEquals(test.matches(regex), validator.test(test), "Disagreement on \"" + test + "\"");
+        }
+    }
+
+    @Test
+    public void isDigits() {
+        assertTrue(ValidationUtil.isDigits("123", 3, 15));
+        assertTrue(ValidationUtil.isDigits("123456789012345", 3, 15));
+        assertFalse(ValidationUtil.isDigits("12", 3, 15));
+        assertFalse(ValidationUtil.isDigits("1234567890123456", 3, 15));
+        assertFalse(ValidationUtil.isDigits("12a", 3, 15));
+        assertFalse(ValidationUtil.isDigits("\u0661\u0662\u0663", 3, 15)); // non-ASCII digits
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 3, 15));
+    }
+
+    @Test
+    public void isAlphanumeric() {
+        assertTrue(ValidationUtil.isAlphanumeric("friends2"));
+        assertFalse(ValidationUtil.isAlphanumeric(""));
+        assertFalse(ValidationUtil.isAlphanumeric("best friends"));
+        assertFalse(ValidationUtil.isAlphanumeric("caf\u00E9"));
+    }
+
+    @Test
+    public void isAlphanumericWithSpaces() {
+        assertTrue(ValidationUtil.isAlphanumericWithSpaces("Alice 2nd "));
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces(" Alice"));
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces("Alice\tTan"));
+    }
+
+    @Test
+    public void isAlphabeticWithSpaces() {
+        assertTrue(ValidationUtil.isAlphabeticWithSpaces("Booth Vendor"));
+        assertFalse(ValidationUtil.isAlphabeticWithSpaces("Vendor 2"));
+        assertFalse(ValidationUtil.isAlphabeticWithSpaces(""));
+    }
+
+    @Test
+    public void modelValidators_sameAsValidationRegex() {
+        assertSameAsRegex(Name.VALIDATION_REGEX, Name::isValidName);
+        assertSameAsRegex(Phone.VALIDATION_REGEX, Phone::isValidPhone);
+        assertSameAsRegex(Phone.VALIDATION_REGEX, PhoneNumberContainsKeywordsPredicate::isValidPhoneSearchTerm);
+        assertSameAsRegex(Email.VALIDATION_REGEX, Email::isValidEmail);
+        assertSameAsRegex(Address.VALIDATION_REGEX, Address::isValidAddress);
+        assertSameAsRegex(Role.VALIDATION_REGEX, Role::isValidRole);
+        assertSameAsRegex(Tag.VALIDATION_REGEX, Tag::isValidTagName);
+    }
+
+}
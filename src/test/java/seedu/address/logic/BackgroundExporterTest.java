@@ -0,0 +1,144 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.BackgroundExporter.MESSAGE_EXPORT_CANCELLED;
+import static seedu.address.logic.BackgroundExporter.MESSAGE_EXPORT_FAILED;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+public class BackgroundExporterTest {
+
+    private static final Path FIRST_FILE = Path.of("first.csv");
+    private static final Path SECOND_FILE = Path.of("second.vcf");
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final RecordingListener listener = new RecordingListener();
+    private final BackgroundExporter exporter = new BackgroundExporter(listener);
+
+    @Test
+    public void submit_exportWritten_progressThrottledAndFinishReported() throws Exception {
+        int totalCount = 1000;
+        exporter.submit(FIRST_FILE, progress -> {
+            for (int i = 1; i <= totalCount; i++) {
+                progress.recordWritten(i, totalCount);
+            }
+            return "done";
+        });
+
+        assertEquals(FIRST_FILE + ": done", listener.awaitFinished());
+        List<String> progressUpdates = listener.getProgressUpdates();
+        assertTrue(progressUpdates.size() <= 100, "Too many progress updates: " + progressUpdates.size());
+        assertEquals(FIRST_FILE + ": " + totalCount + "/" + totalCount,
+                progressUpdates.get(progressUpdates.size() - 1));
+    }
+
+    @Test
+    public void submit_exportFails_failureReported() throws Exception {
+        exporter.submit(FIRST_FILE, progress -> {
+            throw new CommandException("disk full");
+        });
+        assertEquals(FIRST_FILE + ": disk full", listener.awaitFinished());
+    }
+
+    @Test
+    public void submit_exportFailsWithoutMessage_fallbackMessageReported() throws Exception {
+        exporter.submit(FIRST_FILE, progress -> {
+            throw new IllegalStateException();
+        });
+        assertEquals(FIRST_FILE + ": " + String.format(MESSAGE_EXPORT_FAILED, FIRST_FILE), listener.awaitFinished());
+    }
+
+    @Test
+    public void shutdown_exportsSubmitted_waitsForThemToFinish() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        exporter.submit(FIRST_FILE, progress -> {
+            firstStarted.countDown();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+            return "first done";
+        });
+        exporter.submit(SECOND_FILE, progress -> "second done");
+        assertTrue(firstStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        exporter.shutdown();
+        assertEquals(List.of(FIRST_FILE + ": first done", SECOND_FILE + ": second done"),
+                listener.getFinishedExports());
+    }
+
+    @Test
+    public void cancelAll_noExports_returnsZero() {
+        assertEquals(0, exporter.cancelAll());
+    }
+
+    @Test
+    public void cancelAll_runningAndQueuedExports_bothCancelled() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        exporter.submit(FIRST_FILE, progress -> {
+            firstStarted.countDown();
+            while (!progress.isCancelled()) {
+                Thread.onSpinWait();
+            }
+            throw new CancellationException();
+        });
+        AtomicBoolean secondRan = new AtomicBoolean();
+        exporter.submit(SECOND_FILE, progress -> {
+            secondRan.set(true);
+            return "done";
+        });
+
+        assertTrue(firstStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(2, exporter.cancelAll());
+        assertEquals(FIRST_FILE + ": " + String.format(MESSAGE_EXPORT_CANCELLED, FIRST_FILE),
+                listener.awaitFinished());
+        assertEquals(SECOND_FILE + ": " + String.format(MESSAGE_EXPORT_CANCELLED, SECOND_FILE),
+                listener.awaitFinished());
+        assertFalse(secondRan.get());
+        assertEquals(0, exporter.cancelAll());
+    }
+
+    /**
+     * A listener that records the progress and outcome of exports.
+     */
+    private static class RecordingListener implements BackgroundExporter.ExportListener {
+        private final List<String> progressUpdates = new ArrayList<>();
+        private final BlockingQueue<String> finishedExports = new LinkedBlockingQueue<>();
+
+        @Override
+        public synchronized void exportProgressed(Path filePath, int writtenCount, int totalCount) {
+            progressUpdates.add(filePath + ": " + writtenCount + "/" + totalCount);
+        }
+
+        @Override
+        public void exportFinished(Path filePath, String message) {
+            finishedExports.add(filePath + ": " + message);
+        }
+
+        synchronized List<String> getProgressUpdates() {
+            return new ArrayList<>(progressUpdates);
+        }
+
+        List<String> getFinishedExports() {
+            return new ArrayList<>(finishedExports);
+        }
+
+        String awaitFinished() throws InterruptedException {
+            String finished = finishedExports.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertTrue(finished != null, "Export did not finish in time");
+            return finished;
+        }
+    }
+}
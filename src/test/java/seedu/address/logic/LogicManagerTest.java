@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -14,18 +16,25 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.PersonMutation;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
@@ -88,6 +97,145 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_savesOnlyWhenAddressBookChanged() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("countingAddressBook.json");
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // data file does not exist yet -> saved even though nothing changed
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        // read-only command -> not saved
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        // mutating command -> saved
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + ROLE_DESC_AMY);
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void executeBatch_savesOnceForWholeBatch() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("batchAddressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        String addAmyCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + ROLE_DESC_AMY;
+        BatchResult batchResult = logic.executeBatch(List.of(addAmyCommand, "delete 9", ListCommand.COMMAND_WORD),
+                false);
+
+        assertEquals(1, saveCount[0]);
+        assertEquals(3, batchResult.getLineResults().size());
+        assertEquals(List.of(new BatchResult.LineResult(2, "delete 9", MESSAGE_INVALID_PERSON_DISPLAYED_INDEX,
+                false)), batchResult.getFailures());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void executeBatch_atomicBatchFails_rolledBack() throws Exception {
+        String addAmyCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + ROLE_DESC_AMY;
+        BatchResult batchResult = logic.executeBatch(List.of(addAmyCommand, "delete 9", ListCommand.COMMAND_WORD),
+                true);
+
+        assertTrue(batchResult.isRolledBack());
+        assertEquals(2, batchResult.getLineResults().size());
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void executeBatch_atomicBatchFails_undoRevertsCommandBeforeBatch() throws Exception {
+        String addAmyCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + ROLE_DESC_AMY;
+        logic.execute(addAmyCommand);
+        logic.executeBatch(List.of(ClearCommand.COMMAND_WORD, "delete 9"), true);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_failureReportedAndSaveRetried() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("failingAddressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+        List<String> reportedFailures = new CopyOnWriteArrayList<>();
+        logic.enableBackgroundSaving(reportedFailures::add);
+
+        // the command succeeds even though saving fails
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + ROLE_DESC_AMY);
+        assertThrows(IOException.class, storage::flushAddressBook);
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                reportedFailures);
+
+        // the unsaved change is saved again after the next command
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(IOException.class, storage::flushAddressBook);
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void execute_backgroundSaveFailsBeforeQueueingReturns_saveRetried() throws Exception {
+        List<Boolean> fullSaves = new ArrayList<>();
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))) {
+            @Override
+            public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook,
+                    Consumer<IOException> onFailure) {
+                fullSaves.add(true);
+                onFailure.accept(DUMMY_IO_EXCEPTION);
+            }
+
+            @Override
+            public void saveAddressBookChangesInBackground(ReadOnlyAddressBook addressBook,
+                    List<PersonMutation> changes, Consumer<IOException> onFailure) {
+                fullSaves.add(false);
+                onFailure.accept(DUMMY_IO_EXCEPTION);
+            }
+        };
+        logic = new LogicManager(model, storage);
+        logic.enableBackgroundSaving(message -> { });
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + ROLE_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(List.of(true, true), fullSaves);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.BackgroundExporter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Contains tests for {@code CancelExportCommand}.
+ */
+public class CancelExportCommandTest {
+    private final Model model = new ModelManager();
+    private final BackgroundExporter exporter = new BackgroundExporter(new BackgroundExporter.ExportListener() {
+        @Override
+        public void exportProgressed(Path filePath, int writtenCount, int totalCount) {}
+
+        @Override
+        public void exportFinished(Path filePath, String message) {}
+    });
+
+    @Test
+    public void execute_noBackgroundExporter_failure() {
+        assertCommandFailure(new CancelExportCommand(), model, CancelExportCommand.MESSAGE_NO_EXPORT);
+    }
+
+    @Test
+    public void execute_noExports_failure() {
+        assertThrows(CommandException.class, CancelExportCommand.MESSAGE_NO_EXPORT, () ->
+                new CancelExportCommand(exporter).execute(model));
+    }
+
+    @Test
+    public void execute_runningExport_success() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        exporter.submit(Path.of("running.csv"), progress -> {
+            started.countDown();
+            while (!progress.isCancelled()) {
+                Thread.onSpinWait();
+            }
+            throw new CancellationException();
+        });
+        started.await(10, TimeUnit.SECONDS);
+
+        CommandResult result = new CancelExportCommand(exporter).execute(model);
+        assertEquals(String.format(CancelExportCommand.MESSAGE_SUCCESS, 1), result.getFeedbackToUser());
+    }
+}
@@ -1,17 +1,27 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.ExportCommand.MESSAGE_EXPORT_FAILURE;
+import static seedu.address.logic.commands.ExportCommand.MESSAGE_EXPORT_STARTED;
 import static seedu.address.logic.commands.ExportCommand.MESSAGE_EXPORT_SUCCESS_VCF;
 import static seedu.address.logic.commands.ExportCommand.MESSAGE_NO_CONTACTS;
 import static seedu.address.logic.commands.ExportCommand.getAbsoluteExportFilePath;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.BackgroundExporter;
+import seedu.address.logic.parser.VcfParser;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -42,6 +52,35 @@ public class ExportCommandTest {
         assertCommandSuccess(ec, model, expectedMsg, expectedModel);
     }
 
+    @Test
+    public void execute_backgroundExporter_exportsSnapshotInBackground() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String filename = "background.vcf";
+        Path filePath = Path.of(getAbsoluteExportFilePath(filename));
+        BlockingQueue<String> finishedMessages = new LinkedBlockingQueue<>();
+        BackgroundExporter exporter = new BackgroundExporter(new BackgroundExporter.ExportListener() {
+            @Override
+            public void exportProgressed(Path filePath, int writtenCount, int totalCount) {}
+
+            @Override
+            public void exportFinished(Path filePath, String message) {
+                finishedMessages.add(message);
+            }
+        });
+
+        int personCount = model.getAddressBook().getPersonList().size();
+        CommandResult result = new ExportCommand(filename, exporter).execute(model);
+        assertEquals(String.format(MESSAGE_EXPORT_STARTED, filePath, personCount), result.getFeedbackToUser());
+
+        // changes made after the export started are not exported
+        model.setAddressBook(new AddressBook());
+        assertEquals(String.format(MESSAGE_EXPORT_SUCCESS_VCF, filePath),
+                finishedMessages.poll(10, TimeUnit.SECONDS));
+        int[] exportedCount = {0};
+        VcfParser.streamVcf(filePath.toString(), person -> exportedCount[0]++, error -> { });
+        assertEquals(personCount, exportedCount[0]);
+    }
+
     @Test
     public void equals() {
         ExportCommand exportFirstCommand = new ExportCommand("testEquals1.csv");
@@ -16,6 +16,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,9 +24,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PhoneNumberContainsKeywordsPredicate;
 import seedu.address.model.person.RoleContainsKeywordsPredicate;
 import seedu.address.model.person.TagsContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -180,6 +183,44 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_nameKeywords_listedFromIndexWithoutScanningEveryPerson() {
+        Model model = new ModelManagerWithoutScan();
+        new FindCommand(prepareNamePredicate("Kurz Elle Kunz")).execute(model);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_nameKeywordsThenListedPersonEdited_editedPersonStillListed() {
+        new FindCommand(prepareNamePredicate("Kurz Elle Kunz")).execute(model);
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("91234567").build();
+        model.setPerson(CARL, editedCarl);
+        Person contactedElle = ELLE.markAsContacted();
+        model.setPerson(ELLE, contactedElle);
+
+        assertEquals(Arrays.asList(editedCarl, contactedElle, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tagKeywords_listedFromIndexWithoutScanningEveryPerson() {
+        Model model = new ModelManagerWithoutScan();
+        new FindCommand(prepareTagPredicate("friends")).execute(model);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tagKeywordsThenListedPersonEdited_editedPersonStillListed() {
+        new FindCommand(prepareTagPredicate("friends")).execute(model);
+
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        model.setPerson(BENSON, editedBenson);
+        Person editedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        model.setPerson(CARL, editedCarl);
+
+        assertEquals(Arrays.asList(ALICE, editedBenson, editedCarl, DANIEL), model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_singlePhoneKeyword_singlePersonFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
@@ -247,4 +288,19 @@ public class FindCommandTest {
     private RoleContainsKeywordsPredicate prepareRolePredicate(String userInput) {
         return new RoleContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
     }
+
+    /**
+     * A {@code ModelManager} with the typical persons that fails if the person list is filtered by testing every
+     * person.
+     */
+    private static class ModelManagerWithoutScan extends ModelManager {
+        ModelManagerWithoutScan() {
+            super(getTypicalAddressBook(), new UserPrefs());
+        }
+
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate) {
+            throw new AssertionError("Every person should not be tested.");
+        }
+    }
 }
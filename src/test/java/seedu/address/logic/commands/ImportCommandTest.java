@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -19,11 +20,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CsvTokenizer;
 import seedu.address.logic.parser.VcfParser;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 /**
  * Contains tests for {@code ImportCommand}.
@@ -62,7 +65,8 @@ public class ImportCommandTest {
         Model expectedModel = new ModelManager();
 
         // Use the same parser to get the expected persons from the VCF
-        List<Person> expectedPersons = VcfParser.parseVcf(testVcfFile.toString());
+        List<Person> expectedPersons = new ArrayList<>();
+        VcfParser.streamVcf(testVcfFile.toString(), expectedPersons::add, error -> { });
         for (Person person : expectedPersons) {
             expectedModel.addPerson(person);
         }
@@ -86,7 +90,7 @@ public class ImportCommandTest {
     }
 
     @Test
-    public void importCsv_variousTagCases() throws IOException {
+    public void execute_variousTagCases_tagsImported() throws Exception {
         String csvData = "Name, Phone, Email, Address, Role, Tags\n"
                 + "Alice Tan,91234567,alice@example.com,123 Street,Software Engineer,\n"
                 + "Bob Lim,98765432,bob@example.com,456 Avenue,Banker\n"
@@ -94,8 +98,8 @@ public class ImportCommandTest {
 
         Files.write(tempCsvFile, csvData.getBytes(), StandardOpenOption.TRUNCATE_EXISTING);
 
-        List<String> errors = new ArrayList<>();
-        List<Person> persons = ImportCommand.importCsv(tempCsvFile.toString(), errors);
+        new ImportCommand(tempCsvFile).execute(model);
+        List<Person> persons = model.getAddressBook().getPersonList();
 
         assertTrue(persons.size() == 3, "Expected 3 persons, got " + persons.size());
         assertTrue(persons.get(0).getTags().size() == 0, "Expected no tags for first person");
@@ -138,6 +142,108 @@ public class ImportCommandTest {
     }
 
 
+    @Test
+    public void execute_rowsInSeveralBatches_allImported() throws Exception {
+        StringBuilder csvData = new StringBuilder("Name,Phone,Email,Address,Role,Tags\n");
+        for (int i = 0; i < ImportCommand.IMPORT_BATCH_SIZE + 1; i++) {
+            csvData.append("Person ").append(i).append(',').append(String.format("9%07d", i))
+                    .append(",person").append(i).append("@example.com,Street ").append(i).append(",Vendor,\n");
+        }
+        Files.writeString(tempCsvFile, csvData);
+
+        CommandResult result = new ImportCommand(tempCsvFile).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, ImportCommand.IMPORT_BATCH_SIZE + 1),
+                result.getFeedbackToUser());
+        assertEquals(ImportCommand.IMPORT_BATCH_SIZE + 1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_malformedRowAfterFirstBatch_reportedAndRestImported() throws Exception {
+        StringBuilder csvData = new StringBuilder("Name,Phone,Email,Address,Role,Tags\n");
+        for (int i = 0; i < ImportCommand.IMPORT_BATCH_SIZE; i++) {
+            csvData.append("Person ").append(i).append(',').append(String.format("9%07d", i))
+                    .append(",person").append(i).append("@example.com,Street ").append(i).append(",Vendor,\n");
+        }
+        int malformedRow = ImportCommand.IMPORT_BATCH_SIZE + 2;
+        csvData.append("\"Broken\" Row,91234567,broken@example.com,Street,Vendor,\n")
+                .append("Last Person,81234567,last@example.com,Street,Vendor,\n");
+        Files.writeString(tempCsvFile, csvData);
+
+        CommandResult result = new ImportCommand(tempCsvFile).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, ImportCommand.IMPORT_BATCH_SIZE + 1)
+                + "\nAdditionally, some rows had errors and were skipped:\n"
+                + "Row " + malformedRow + " of CSV: " + CsvTokenizer.MESSAGE_TEXT_AFTER_QUOTE + "\n",
+                result.getFeedbackToUser());
+        assertEquals(ImportCommand.IMPORT_BATCH_SIZE + 1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_unterminatedQuote_reportedAndEarlierRowsImported() throws Exception {
+        String csvData = "Name,Phone,Email,Address,Role,Tags\n"
+                + "Alice Tan,91234567,alice@example.com,123 Street,Vendor,\n"
+                + "Bob Lim,81234567,bob@example.com,\"456 Avenue,Banker\n";
+        Files.writeString(tempCsvFile, csvData);
+
+        CommandResult result = new ImportCommand(tempCsvFile).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1)
+                + "\nAdditionally, some rows had errors and were skipped:\n"
+                + "Row 3 of CSV: " + CsvTokenizer.MESSAGE_UNTERMINATED_QUOTE + "\n",
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_rowsInSeveralValidationBatches_reportedInFileOrder() throws Exception {
+        int rowCount = 2 * ImportCommand.VALIDATION_BATCH_SIZE + 1;
+        StringBuilder csvData = new StringBuilder("Name,Phone,Email,Address,Role,Tags\n");
+        for (int i = 0; i < rowCount; i++) {
+            // every 100th row is invalid, and every 100th row from the 50th repeats the row before it
+            String phone = i % 100 == 0 ? "not a phone" : String.format("9%07d", i - (i % 100 == 50 ? 1 : 0));
+            int person = i % 100 == 50 ? i - 1 : i;
+            csvData.append("Person ").append(person).append(',').append(phone)
+                    .append(",person").append(person).append("@example.com,Street,Vendor,\n");
+        }
+        Files.writeString(tempCsvFile, csvData);
+
+        String feedback = new ImportCommand(tempCsvFile).execute(model).getFeedbackToUser();
+        List<String> invalidRows = new ArrayList<>();
+        List<String> duplicateRows = new ArrayList<>();
+        for (String line : feedback.split("\n")) {
+            if (line.endsWith(Phone.MESSAGE_CONSTRAINTS)) {
+                invalidRows.add(line.substring(0, line.indexOf(" of CSV")));
+            } else if (line.contains(" of CSV: ")) {
+                duplicateRows.add(line.substring(0, line.indexOf(" of CSV")));
+            }
+        }
+
+        List<String> expectedInvalidRows = new ArrayList<>();
+        List<String> expectedDuplicateRows = new ArrayList<>();
+        for (int i = 0; i < rowCount; i += 100) {
+            expectedInvalidRows.add("Row " + (i + 2));
+            if (i + 50 < rowCount) {
+                expectedDuplicateRows.add("Row " + (i + 52));
+            }
+        }
+        assertEquals(expectedInvalidRows, invalidRows);
+        assertEquals(expectedDuplicateRows, duplicateRows);
+        assertEquals(rowCount - expectedInvalidRows.size() - expectedDuplicateRows.size(),
+                model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_manyInvalidRows_reportedErrorsCapped() throws Exception {
+        StringBuilder csvData = new StringBuilder("Name,Phone,Email,Address,Role,Tags\n")
+                .append("Alice Tan,91234567,alice@example.com,123 Street,Vendor,\n");
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_ERRORS + 5; i++) {
+            csvData.append("Person ").append(i).append(",not a phone,person@example.com,Street,Vendor,\n");
+        }
+        Files.writeString(tempCsvFile, csvData);
+
+        String feedback = new ImportCommand(tempCsvFile).execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains("Row 3 of CSV: " + Phone.MESSAGE_CONSTRAINTS));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 5)));
+        assertFalse(feedback.contains("Row " + (ImportCommand.MAX_REPORTED_ERRORS + 3) + " of CSV"));
+    }
+
     @Test
     public void execute_emptyCsv_failure() throws IOException {
         // Write only the header (no data)
@@ -0,0 +1,163 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_BOB;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.BatchExecutor;
+import seedu.address.logic.BatchResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RunCommand}.
+ */
+public class RunCommandTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+            + ADDRESS_DESC_AMY + ROLE_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
+            + ADDRESS_DESC_BOB + ROLE_DESC_BOB;
+    private static final String DELETE_MISSING = DeleteCommand.COMMAND_WORD + " 5";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+
+    private Path writeScript(String... lines) throws IOException {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(lines));
+        return scriptPath;
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_allExecuted() throws Exception {
+        Path scriptPath = writeScript("# vendors", ADD_AMY, "", "  " + ADD_BOB);
+
+        CommandResult result = new RunCommand(scriptPath, false).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Executed 2 of 2 commands in "));
+        assertTrue(result.getFeedbackToUser().endsWith(": 2 succeeded, 0 failed."));
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_commandFails_laterCommandsExecutedAndFailureReported() throws Exception {
+        Path scriptPath = writeScript(ADD_AMY, DELETE_MISSING, ADD_BOB);
+
+        CommandResult result = new RunCommand(scriptPath, false).execute(model);
+
+        assertTrue(result.getFeedbackToUser().contains(": 2 succeeded, 1 failed."));
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(RunCommand.MESSAGE_FAILED_LINE,
+                2, DELETE_MISSING, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)));
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_manyCommandsFail_firstFailuresReported() throws Exception {
+        String[] lines = new String[RunCommand.MAX_REPORTED_FAILURES + 3];
+        Arrays.fill(lines, DELETE_MISSING);
+
+        CommandResult result = new RunCommand(writeScript(lines), false).execute(model);
+
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(RunCommand.MESSAGE_MORE_FAILURES, 3)));
+    }
+
+    @Test
+    public void execute_atomicCommandFails_noChangesMade() throws Exception {
+        Path scriptPath = writeScript(ADD_AMY, DELETE_MISSING, ADD_BOB);
+        RunCommand runCommand = new RunCommand(scriptPath, true);
+
+        CommandException e = assertThrows(CommandException.class, () -> runCommand.execute(model));
+
+        assertTrue(e.getMessage().contains("Executed 2 of 3 commands in "));
+        assertTrue(e.getMessage().contains(String.format(BatchResult.MESSAGE_ROLLED_BACK, 2)));
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_nestedRun_failure() throws Exception {
+        Path scriptPath = writeScript(RunCommand.COMMAND_WORD + " other.txt");
+
+        CommandResult result = new RunCommand(scriptPath, false).execute(model);
+
+        assertTrue(result.getFeedbackToUser().endsWith(BatchExecutor.MESSAGE_NESTED_RUN));
+    }
+
+    @Test
+    public void execute_undoAndRedo_failureWithoutUndoing() throws Exception {
+        Path scriptPath = writeScript(ADD_AMY, UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD, ADD_BOB);
+
+        CommandResult result = new RunCommand(scriptPath, false).execute(model);
+
+        assertTrue(result.getFeedbackToUser().contains(BatchExecutor.MESSAGE_UNDO_REDO_IN_BATCH));
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_undoInAtomicBatch_rolledBack() throws Exception {
+        model.addPerson(new PersonBuilder().build());
+        model.commitAddressBook();
+        RunCommand runCommand = new RunCommand(writeScript(ADD_AMY, UndoCommand.COMMAND_WORD), true);
+
+        CommandException e = assertThrows(CommandException.class, () -> runCommand.execute(model));
+
+        assertTrue(e.getMessage().contains(BatchExecutor.MESSAGE_UNDO_REDO_IN_BATCH));
+        assertEquals(List.of(new PersonBuilder().build()), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        RunCommand runCommand = new RunCommand(temporaryFolder.resolve("missing.txt"), false);
+        assertThrows(CommandException.class, () -> runCommand.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runFirstCommand = new RunCommand(Path.of("first.txt"), false);
+        RunCommand runSecondCommand = new RunCommand(Path.of("second.txt"), false);
+
+        // same object -> returns true
+        assertTrue(runFirstCommand.equals(runFirstCommand));
+
+        // same values -> returns true
+        assertTrue(runFirstCommand.equals(new RunCommand(Path.of("first.txt"), false)));
+
+        // different types -> returns false
+        assertFalse(runFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runFirstCommand.equals(runSecondCommand));
+
+        // different atomicity -> returns false
+        assertFalse(runFirstCommand.equals(new RunCommand(Path.of("first.txt"), true)));
+    }
+}
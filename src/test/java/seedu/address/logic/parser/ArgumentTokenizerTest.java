@@ -136,6 +136,31 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixBeginsWithAnother_longestRecognized() {
+        Prefix pSlashX = new Prefix("p/x");
+        String argsString = "preamble p/xylophone p/ piano p/x";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashX);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlashX, "ylophone", "");
+        assertArgumentPresent(argMultimap, pSlash, "piano");
+    }
+
+    @Test
+    public void tokenize_sameTokenizerReused_independentResults() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT, hatQ);
+
+        ArgumentMultimap argMultimap = tokenizer.tokenizeArgs(" p/ first -t tag");
+        assertArgumentPresent(argMultimap, pSlash, "first");
+        assertArgumentPresent(argMultimap, dashT, "tag");
+
+        argMultimap = tokenizer.tokenizeArgs("preamble ^Q second");
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentAbsent(argMultimap, dashT);
+        assertArgumentPresent(argMultimap, hatQ, "second");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -108,6 +108,14 @@ public class CsvParserTest {
         assertEquals("Invalid CSV Header. The file is empty or missing a header.", thrown.getMessage());
     }
 
+    @Test
+    public void parseCsv_malformedRow_throwsIoException() throws IOException {
+        Files.writeString(tempCsvFile, "Name,Phone\nAlice,91234567\n\"Bob\" Lim,81234567\n");
+        IOException thrown = assertThrows(IOException.class, () -> CsvParser.parseCsv(tempCsvFile.toString()));
+
+        assertEquals("Row 3 of CSV: " + CsvTokenizer.MESSAGE_TEXT_AFTER_QUOTE, thrown.getMessage());
+    }
+
     @Test
     public void parseCsv_emptyFile_throwsIoException() {
         assertThrows(IOException.class, () -> CsvParser.parseCsv(tempCsvFile.toString()));
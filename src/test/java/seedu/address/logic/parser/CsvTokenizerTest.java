@@ -0,0 +1,168 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Contains unit tests for {@code CsvTokenizer}.
+ */
+public class CsvTokenizerTest {
+
+    private static List<List<String>> tokenize(CsvTokenizer tokenizer) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        while (tokenizer.nextRecord()) {
+            List<String> fields = new ArrayList<>();
+            for (int i = 0; i < tokenizer.getFieldCount(); i++) {
+                fields.add(tokenizer.getField(i));
+            }
+            records.add(fields);
+        }
+        return records;
+    }
+
+    private static List<List<String>> tokenize(String text) throws IOException {
+        return tokenize(new CsvTokenizer(CharBuffer.wrap(text.toCharArray())));
+    }
+
+    @Test
+    public void nextRecord_plainFields_splitOnCommasAndLineBreaks() throws IOException {
+        assertEquals(List.of(List.of("a", "b", ""), List.of("c"), List.of("d", " e ")),
+                tokenize("a,b,\nc\r\nd, e \r"));
+    }
+
+    @Test
+    public void nextRecord_quotedFields_quotesRemovedAndEscapesUnescaped() throws IOException {
+        assertEquals(List.of(List.of("Tan, Alice", "say \"hi\"", "", "\"")),
+                tokenize("\"Tan, Alice\", \"say \"\"hi\"\"\" ,\"\",\"\"\"\""));
+    }
+
+    @Test
+    public void nextRecord_lineBreakInQuotedField_keptInField() throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(CharBuffer.wrap("a,\"line 1\r\nline 2\nline 3\"\nb\n"));
+
+        assertTrue(tokenizer.nextRecord());
+        assertEquals("line 1\r\nline 2\nline 3", tokenizer.getField(1));
+        assertEquals(1, tokenizer.getRecordLineNumber());
+        assertTrue(tokenizer.nextRecord());
+        assertEquals("b", tokenizer.getField(0));
+        assertEquals(4, tokenizer.getRecordLineNumber());
+        assertFalse(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void nextRecord_quoteInsideUnquotedField_keptAsText() throws IOException {
+        assertEquals(List.of(List.of("5\" screen", "b")), tokenize("5\" screen,b"));
+    }
+
+    @Test
+    public void nextRecord_byteOrderMark_skipped() throws IOException {
+        assertEquals(List.of(List.of("Name", "Phone")), tokenize("\uFEFFName,Phone\n"));
+    }
+
+    @Test
+    public void nextRecord_recordsLargerThanBuffer_readAcrossRefills() throws IOException {
+        StringBuilder text = new StringBuilder();
+        List<List<String>> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String longField = "x".repeat(i * 3) + ", \"" + i + "\"";
+            text.append(i).append(",\"").append(longField.replace("\"", "\"\"")).append("\"\r\n");
+            expected.add(List.of(String.valueOf(i), longField));
+        }
+
+        assertEquals(expected, tokenize(new CsvTokenizer(new StringReader(text.toString()), 4)));
+        assertEquals(expected, tokenize(text.toString()));
+    }
+
+    @Test
+    public void nextRecord_unterminatedQuote_lastRecordHasError() throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(CharBuffer.wrap("a,b\nc,\"d\ne"));
+
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(Optional.empty(), tokenizer.getRecordError());
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(2, tokenizer.getRecordLineNumber());
+        assertEquals(Optional.of(CsvTokenizer.MESSAGE_UNTERMINATED_QUOTE), tokenizer.getRecordError());
+        assertFalse(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void nextRecord_unterminatedQuoteBeforeManyLines_recordTooLongAndSkipped() throws IOException {
+        String text = "a,b\nc,\"d\n" + "e,f\n".repeat(CsvTokenizer.MAX_RECORD_LENGTH);
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(text));
+
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(Optional.empty(), tokenizer.getRecordError());
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(2, tokenizer.getRecordLineNumber());
+        assertEquals(Optional.of(CsvTokenizer.MESSAGE_RECORD_TOO_LONG), tokenizer.getRecordError());
+        assertEquals(0, tokenizer.getFieldCount());
+        assertFalse(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void nextRecord_recordTooLong_nextRecordAfterLineBreakOutsideQuotesIsRead() throws IOException {
+        String longQuotedField = "\"" + "x\n\"\",".repeat(10) + "\"";
+        String text = "a," + longQuotedField + ",b\r\n" + "y".repeat(40) + "\nc,d\n";
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(text), 4, 16);
+
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(Optional.of(CsvTokenizer.MESSAGE_RECORD_TOO_LONG), tokenizer.getRecordError());
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(12, tokenizer.getRecordLineNumber());
+        assertEquals(Optional.of(CsvTokenizer.MESSAGE_RECORD_TOO_LONG), tokenizer.getRecordError());
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(13, tokenizer.getRecordLineNumber());
+        assertEquals(Optional.empty(), tokenizer.getRecordError());
+        assertEquals("c", tokenizer.getField(0));
+        assertEquals("d", tokenizer.getField(1));
+        assertFalse(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void nextRecord_textAfterClosingQuote_recordHasErrorAndNextRecordIsRead() throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(CharBuffer.wrap("\"a\"b,c\n\"d\",e\n"));
+
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(Optional.of(CsvTokenizer.MESSAGE_TEXT_AFTER_QUOTE), tokenizer.getRecordError());
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(Optional.empty(), tokenizer.getRecordError());
+        assertEquals(2, tokenizer.getRecordLineNumber());
+        assertEquals("d", tokenizer.getField(0));
+        assertEquals("e", tokenizer.getField(1));
+        assertFalse(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void isRecordBlank() throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(CharBuffer.wrap(" , \t,\n\"\"\n,a\n"));
+
+        assertTrue(tokenizer.nextRecord());
+        assertTrue(tokenizer.isRecordBlank());
+        assertTrue(tokenizer.nextRecord());
+        assertTrue(tokenizer.isRecordBlank());
+        assertTrue(tokenizer.nextRecord());
+        assertFalse(tokenizer.isRecordBlank());
+        assertTrue(tokenizer.isFieldBlank(0));
+        assertFalse(tokenizer.isFieldBlank(1));
+    }
+
+    @Test
+    public void getField_invalidIndex_throwsIndexOutOfBoundsException() throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(CharBuffer.wrap("a,b"));
+        tokenizer.nextRecord();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> tokenizer.getField(2));
+    }
+
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.RunCommand.SCRIPT_DIR_PREFIX;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " --atomic ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_filename_success() {
+        assertParseSuccess(parser, " vendors.txt ", new RunCommand(Path.of(SCRIPT_DIR_PREFIX + "vendors.txt"), false));
+    }
+
+    @Test
+    public void parse_atomicFilename_success() {
+        assertParseSuccess(parser, " --atomic  my vendors.txt",
+                new RunCommand(Path.of(SCRIPT_DIR_PREFIX + "my vendors.txt"), true));
+    }
+
+    @Test
+    public void parse_filenameWithSeparator_throwsParseException() {
+        assertParseFailure(parser, "../vendors.txt", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RunCommandParser.INVALID_PATH_MESSAGE));
+        assertParseFailure(parser, "--atomic dir\\vendors.txt", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RunCommandParser.INVALID_PATH_MESSAGE));
+    }
+}
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
@@ -30,7 +31,7 @@ public class VcfParserTest {
     }
 
     @Test
-    public void parseVcf_validVcf_parsesSuccessfully() throws IOException {
+    public void streamVcf_validVcf_parsesSuccessfully() throws IOException {
         String vcfData = "BEGIN:VCARD\n"
                 + "VERSION:4.0\n"
                 + "FN:Alice Pauline\n"
@@ -41,7 +42,8 @@ public class VcfParserTest {
                 + "END:VCARD\n";
 
         Files.writeString(tempVcfFile, vcfData);
-        List<Person> result = VcfParser.parseVcf(tempVcfFile.toString());
+        List<Person> result = new ArrayList<>();
+        VcfParser.streamVcf(tempVcfFile.toString(), result::add, error -> { });
 
         assertEquals(1, result.size());
         Person alice = result.get(0);
@@ -53,7 +55,7 @@ public class VcfParserTest {
     }
 
     @Test
-    public void parseVcf_missingName_collectsError() throws IOException {
+    public void streamVcf_missingName_collectsError() throws IOException {
         String vcfData = "BEGIN:VCARD\n"
                 + "FN:\n"
                 + "VERSION:4.0\n"
@@ -64,28 +66,30 @@ public class VcfParserTest {
                 + "END:VCARD\n";
 
         Files.writeString(tempVcfFile, vcfData);
-        List<Person> persons = VcfParser.parseVcf(tempVcfFile.toString());
+        List<Person> persons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        VcfParser.streamVcf(tempVcfFile.toString(), persons::add, errors::add);
 
         assertTrue(persons.isEmpty());
-        List<String> errors = VcfParser.getLastParseErrors();
         assertTrue(errors.stream().anyMatch(e -> e.contains("Missing required field 'FN'")));
     }
 
     @Test
-    public void parseVcf_emptyVcf_collectsError() throws IOException {
+    public void streamVcf_emptyVcf_collectsError() throws IOException {
         String vcfData = "BEGIN:VCARD\n"
                 + "END:VCARD\n";
 
         Files.writeString(tempVcfFile, vcfData);
-        List<Person> persons = VcfParser.parseVcf(tempVcfFile.toString());
+        List<Person> persons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        VcfParser.streamVcf(tempVcfFile.toString(), persons::add, errors::add);
 
         assertTrue(persons.isEmpty());
-        List<String> errors = VcfParser.getLastParseErrors();
         assertTrue(errors.stream().anyMatch(e -> e.contains("Missing required field 'FN'")));
     }
 
     @Test
-    public void parseVcf_missingAllFields_collectsError() throws IOException {
+    public void streamVcf_missingAllFields_collectsError() throws IOException {
         String vcfData = "BEGIN:VCARD\n"
                 + "FN:\n"
                 + "VERSION:4.0\n"
@@ -96,15 +100,16 @@ public class VcfParserTest {
                 + "END:VCARD\n";
 
         Files.writeString(tempVcfFile, vcfData);
-        List<Person> persons = VcfParser.parseVcf(tempVcfFile.toString());
+        List<Person> persons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        VcfParser.streamVcf(tempVcfFile.toString(), persons::add, errors::add);
 
         assertTrue(persons.isEmpty());
-        List<String> errors = VcfParser.getLastParseErrors();
         assertTrue(errors.stream().anyMatch(e -> e.contains("Missing required field")));
     }
 
     @Test
-    public void parseVcf_multiplePhone_collectsError() throws IOException {
+    public void streamVcf_multiplePhone_collectsError() throws IOException {
         String vcfData = "BEGIN:VCARD\n"
                 + "VERSION:4.0\n"
                 + "FN:Bob Lim\n"
@@ -116,15 +121,16 @@ public class VcfParserTest {
                 + "END:VCARD\n";
 
         Files.writeString(tempVcfFile, vcfData);
-        List<Person> persons = VcfParser.parseVcf(tempVcfFile.toString());
+        List<Person> persons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        VcfParser.streamVcf(tempVcfFile.toString(), persons::add, errors::add);
 
         assertTrue(persons.isEmpty());
-        List<String> errors = VcfParser.getLastParseErrors();
         assertTrue(errors.stream().anyMatch(e -> e.contains("Cannot contain more than one telephone number")));
     }
 
     @Test
-    public void parseVcf_multipleTitle_collectsError() throws IOException {
+    public void streamVcf_multipleTitle_collectsError() throws IOException {
         String vcfData = "BEGIN:VCARD\n"
                 + "VERSION:4.0\n"
                 + "FN:Bob Lim\n"
@@ -136,15 +142,16 @@ public class VcfParserTest {
                 + "END:VCARD\n";
 
         Files.writeString(tempVcfFile, vcfData);
-        List<Person> persons = VcfParser.parseVcf(tempVcfFile.toString());
+        List<Person> persons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        VcfParser.streamVcf(tempVcfFile.toString(), persons::add, errors::add);
 
         assertTrue(persons.isEmpty());
-        List<String> errors = VcfParser.getLastParseErrors();
         assertTrue(errors.stream().anyMatch(e -> e.contains("Cannot contain more than one title")));
     }
 
     @Test
-    public void parseVcf_multipleEmails_collectsError() throws IOException {
+    public void streamVcf_multipleEmails_collectsError() throws IOException {
         String vcfData = "BEGIN:VCARD\n"
                 + "VERSION:4.0\n"
                 + "FN:Bob Lim\n"
@@ -156,15 +163,16 @@ public class VcfParserTest {
                 + "END:VCARD\n";
 
         Files.writeString(tempVcfFile, vcfData);
-        List<Person> persons = VcfParser.parseVcf(tempVcfFile.toString());
+        List<Person> persons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        VcfParser.streamVcf(tempVcfFile.toString(), persons::add, errors::add);
 
         assertTrue(persons.isEmpty());
-        List<String> errors = VcfParser.getLastParseErrors();
         assertTrue(errors.stream().anyMatch(e -> e.contains("Cannot contain more than one email address")));
     }
 
     @Test
-    public void parseVcf_addressWithFullAddress_combinesCorrectly() throws IOException {
+    public void streamVcf_addressWithFullAddress_combinesCorrectly() throws IOException {
         String vcfData = "BEGIN:VCARD\n"
                 + "VERSION:4.0\n"
                 + "FN:Carl Tan\n"
@@ -176,22 +184,62 @@ public class VcfParserTest {
 
 
         Files.writeString(tempVcfFile, vcfData);
-        List<Person> persons = VcfParser.parseVcf(tempVcfFile.toString());
+        List<Person> persons = new ArrayList<>();
+        VcfParser.streamVcf(tempVcfFile.toString(), persons::add, error -> { });
 
         assertEquals("PO Box 10, Suite 900, 10 Downing St, London, Greater London, SW1A 2AA, United Kingdom",
                 persons.get(0).getAddress().toString());
     }
 
     @Test
-    public void parseVcf_nonExistentFile_throwsIoException() {
+    public void streamVcf_validAndInvalidCards_resultsInFileOrder() throws IOException {
+        StringBuilder vcfData = new StringBuilder();
+        for (int i = 1; i <= 3; i++) {
+            vcfData.append("BEGIN:VCARD\n")
+                    .append("VERSION:4.0\n")
+                    .append("FN:Person ").append(i).append("\n")
+                    .append("TEL:").append(i == 2 ? "invalid-phone-number" : "9000000" + i).append("\n")
+                    .append("EMAIL:person").append(i).append("@example.com\n")
+                    .append("ADR:;;").append(i).append(" Street;Singapore;;;Singapore\n")
+                    .append("END:VCARD\n");
+        }
+        Files.writeString(tempVcfFile, vcfData);
+
+        List<Person> persons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        VcfParser.streamVcf(tempVcfFile.toString(), persons::add, errors::add);
+        assertEquals(List.of("Person 1", "Person 3"),
+                persons.stream().map(person -> person.getName().fullName).toList());
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).startsWith("Contact 2 of VCF: Person 2: Invalid field"));
+    }
+
+    @Test
+    public void streamVcf_cards_handledAsRead() throws IOException {
+        String card = "BEGIN:VCARD\nVERSION:4.0\nFN:Alice\nTEL:91234567\nEMAIL:alice@example.com\n"
+                + "ADR:;;123 Street;Singapore;;123456;Singapore\nEND:VCARD\n";
+        Files.writeString(tempVcfFile, card + "BEGIN:VCARD\nVERSION:4.0\nEND:VCARD\n" + card);
+
+        List<String> events = new ArrayList<>();
+        VcfParser.streamVcf(tempVcfFile.toString(), person -> events.add("person " + person.getName()),
+                error -> events.add("error"));
+        assertTrue(events.size() > 2);
+        assertEquals("person Alice", events.get(0));
+        assertTrue(events.subList(1, events.size() - 1).stream().allMatch("error"::equals));
+        assertEquals("person Alice", events.get(events.size() - 1));
+    }
+
+    @Test
+    public void streamVcf_nonExistentFile_throwsIoException() {
         String invalidPath = "nonexistent_file.vcf";
 
-        IOException thrown = assertThrows(IOException.class, () -> VcfParser.parseVcf(invalidPath));
+        IOException thrown = assertThrows(IOException.class, () ->
+                VcfParser.streamVcf(invalidPath, person -> { }, error -> { }));
         assertTrue(thrown.getMessage().contains("Failed to read VCF file"));
     }
 
     @Test
-    public void parseVcf_missingTitle_returnsUnassigned() throws IOException {
+    public void streamVcf_missingTitle_returnsUnassigned() throws IOException {
         String vcfData = "BEGIN:VCARD\n"
                 + "VERSION:4.0\n"
                 + "FN:Alice\n"
@@ -201,13 +249,14 @@ public class VcfParserTest {
                 + "END:VCARD\n";
 
         Files.writeString(tempVcfFile, vcfData);
-        List<Person> people = VcfParser.parseVcf(tempVcfFile.toString());
+        List<Person> people = new ArrayList<>();
+        VcfParser.streamVcf(tempVcfFile.toString(), people::add, error -> { });
 
         assertEquals("Unassigned", people.get(0).getRole().toString());
     }
 
     @Test
-    public void parseVcf_missingEmail_collectsError() throws IOException {
+    public void streamVcf_missingEmail_collectsError() throws IOException {
         String vcfData = "BEGIN:VCARD\n"
                 + "VERSION:4.0\n"
                 + "FN:Alice Pauline\n"
@@ -217,16 +266,16 @@ public class VcfParserTest {
                 + "END:VCARD\n";
 
         Files.writeString(tempVcfFile, vcfData);
-        List<Person> persons = VcfParser.parseVcf(tempVcfFile.toString());
+        List<Person> persons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        VcfParser.streamVcf(tempVcfFile.toString(), persons::add, errors::add);
 
         assertTrue(persons.isEmpty());
-
-        List<String> errors = VcfParser.getLastParseErrors();
         assertTrue(errors.stream().anyMatch(e -> e.contains("Missing required field 'Email'")));
     }
 
     @Test
-    public void parseVcf_multipleNames_collectsError() throws IOException {
+    public void streamVcf_multipleNames_collectsError() throws IOException {
         String vcfData = "BEGIN:VCARD\n"
                 + "VERSION:4.0\n"
                 + "FN:Alice Pauline\n"
@@ -238,16 +287,16 @@ public class VcfParserTest {
                 + "END:VCARD\n";
 
         Files.writeString(tempVcfFile, vcfData);
-        List<Person> persons = VcfParser.parseVcf(tempVcfFile.toString());
+        List<Person> persons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        VcfParser.streamVcf(tempVcfFile.toString(), persons::add, errors::add);
 
         assertTrue(persons.isEmpty());
-
-        List<String> errors = VcfParser.getLastParseErrors();
         assertTrue(errors.stream().anyMatch(e -> e.contains("Cannot contain more than one formatted name")));
     }
 
     @Test
-    public void parseVcf_invalidPhoneFormat_collectsError() throws IOException {
+    public void streamVcf_invalidPhoneFormat_collectsError() throws IOException {
         String vcfData = "BEGIN:VCARD\n"
                 + "VERSION:4.0\n"
                 + "FN:Alice Pauline\n"
@@ -258,11 +307,11 @@ public class VcfParserTest {
                 + "END:VCARD\n";
 
         Files.writeString(tempVcfFile, vcfData);
-        List<Person> persons = VcfParser.parseVcf(tempVcfFile.toString());
+        List<Person> persons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        VcfParser.streamVcf(tempVcfFile.toString(), persons::add, errors::add);
 
         assertTrue(persons.isEmpty());
-
-        List<String> errors = VcfParser.getLastParseErrors();
         assertTrue(errors.stream().anyMatch(e -> e.contains("Invalid field")));
         assertTrue(errors.stream().anyMatch(e ->
                 e.contains("Phone numbers should only contain numeric digits between 3 and 15 digits in length")));
@@ -9,17 +9,23 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.MutationOutcome;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -107,6 +113,106 @@ public class AddressBookTest {
         assertEquals(Arrays.asList(person1, person2), addressBook.getPersonList());
     }
 
+    @Test
+    public void getVersion_changesOnlyOnMutation() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.removePersons(Collections.singletonList(ALICE));
+        assertEquals(initialVersion, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > initialVersion);
+    }
+
+    @Test
+    public void getMutationsSince_loggedChanges_returnedInOrder() {
+        long initialVersion = addressBook.getVersion();
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.addPersons(Arrays.asList(ALICE, BOB));
+        long afterAddVersion = addressBook.getVersion();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BOB);
+
+        assertEquals(Optional.of(Arrays.asList(PersonMutation.add(ALICE), PersonMutation.add(BOB),
+                PersonMutation.set(ALICE, editedAlice), PersonMutation.remove(BOB))),
+                addressBook.getMutationsSince(initialVersion));
+        assertEquals(Optional.of(Arrays.asList(PersonMutation.set(ALICE, editedAlice), PersonMutation.remove(BOB))),
+                addressBook.getMutationsSince(afterAddVersion));
+        assertEquals(Optional.of(Collections.emptyList()), addressBook.getMutationsSince(addressBook.getVersion()));
+
+        // sorting cannot be described by mutations
+        addressBook.sortPersons(Comparator.comparing(Person::getName));
+        assertFalse(addressBook.getMutationsSince(afterAddVersion).isPresent());
+    }
+
+    @Test
+    public void getMutationsSince_replayedOntoEarlierCopy_sameAddressBook() {
+        addressBook.addPerson(ALICE);
+        AddressBook earlierCopy = new AddressBook(addressBook);
+        long copiedVersion = addressBook.getVersion();
+        addressBook.addPerson(BOB);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+
+        addressBook.getMutationsSince(copiedVersion).get().forEach(mutation -> mutation.applyTo(earlierCopy));
+        assertEquals(addressBook, earlierCopy);
+    }
+
+    @Test
+    public void batchOperations_singleListChangeEach_indexesUpdated() {
+        int[] changeCount = {0};
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        addressBook.addPersons(Arrays.asList(ALICE, BOB, ALICE));
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(ALICE, BOB), addressBook.getPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Map<Person, MutationOutcome> outcomes = addressBook.setPersons(Collections.singletonMap(ALICE, editedAlice));
+        assertEquals(MutationOutcome.APPLIED, outcomes.get(ALICE));
+        assertEquals(2, changeCount[0]);
+        assertEquals(Arrays.asList(editedAlice, BOB), addressBook.getPersonsWithTag(VALID_TAG_HUSBAND));
+
+        addressBook.removePersons(Arrays.asList(editedAlice, BOB));
+        assertEquals(3, changeCount[0]);
+        assertTrue(addressBook.getPersonList().isEmpty());
+        assertTrue(addressBook.getPersonsWithTag(VALID_TAG_HUSBAND).isEmpty());
+        assertEquals(Optional.of(Collections.emptySet()),
+                addressBook.getNameSearchCandidates(Collections.singletonList("alice")));
+    }
+
+    @Test
+    public void snapshot_afterEachChange_matchesPersonsAndKeepsEarlierSnapshots() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        List<ReadOnlyAddressBook> snapshots = new ArrayList<>();
+        List<List<Person>> expectedPersons = new ArrayList<>();
+        Runnable takeSnapshot = () -> {
+            snapshots.add(typicalAddressBook.snapshot());
+            expectedPersons.add(new ArrayList<>(typicalAddressBook.getPersonList()));
+        };
+        List<Person> typicalPersons = getTypicalPersons();
+
+        takeSnapshot.run();
+        typicalAddressBook.addPerson(BOB);
+        takeSnapshot.run();
+        typicalAddressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        takeSnapshot.run();
+        typicalAddressBook.removePerson(typicalPersons.get(3));
+        takeSnapshot.run();
+        // a single removal is made in place, while removing most persons rebuilds the snapshot list
+        typicalAddressBook.removePersons(List.of(typicalPersons.get(1)));
+        takeSnapshot.run();
+        typicalAddressBook.removePersons(typicalPersons.subList(4, 7));
+        takeSnapshot.run();
+        typicalAddressBook.addPersons(typicalPersons.subList(4, 7));
+        takeSnapshot.run();
+        typicalAddressBook.sortPersons(Comparator.comparing(person -> person.getName().fullName));
+        takeSnapshot.run();
+
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertEquals(expectedPersons.get(i), snapshots.get(i).getPersonList());
+        }
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
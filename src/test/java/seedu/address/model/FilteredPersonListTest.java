@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilteredPersonListTest {
+
+    private static final Predicate<Person> HAS_FRIENDS_TAG = person -> person.getTags().stream()
+            .anyMatch(tag -> tag.getTag().equals("friends"));
+
+    private final ObservableList<Person> source =
+            FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL, ELLE);
+    private final FilteredPersonList filteredPersons = new FilteredPersonList(source);
+
+    @Test
+    public void constructor_showsEveryPerson() {
+        assertEquals(source, filteredPersons);
+    }
+
+    @Test
+    public void setPredicate_showsMatchingPersonsInSourceOrder() {
+        filteredPersons.setPredicate(HAS_FRIENDS_TAG);
+        assertEquals(List.of(ALICE, BENSON, DANIEL), filteredPersons);
+        assertEquals(3, filteredPersons.getSourceIndex(2));
+        assertEquals(1, filteredPersons.getViewIndex(1));
+    }
+
+    @Test
+    public void setMatches_testsNoPerson() {
+        List<Person> tested = new ArrayList<>();
+        Predicate<Person> recordingPredicate = person -> {
+            tested.add(person);
+            return HAS_FRIENDS_TAG.test(person);
+        };
+
+        filteredPersons.setMatches(recordingPredicate, new int[] {0, 1, 3});
+        assertEquals(List.of(ALICE, BENSON, DANIEL), filteredPersons);
+        assertEquals(List.of(), tested);
+
+        // only the persons added later are tested
+        source.add(GEORGE);
+        assertEquals(List.of(GEORGE), tested);
+    }
+
+    @Test
+    public void sourceChanged_afterEachChange_matchesFilteredSource() {
+        filteredPersons.setPredicate(HAS_FRIENDS_TAG);
+        List<Integer> changeCounts = new ArrayList<>(List.of(0));
+        filteredPersons.addListener((ListChangeListener<Person>) change ->
+                changeCounts.set(0, changeCounts.get(0) + 1));
+
+        Person friendFiona = new PersonBuilder(FIONA).withTags("friends").build();
+        source.addAll(List.of(friendFiona, GEORGE));
+        assertMatchesFilteredSource();
+
+        source.remove(ALICE);
+        assertMatchesFilteredSource();
+
+        // an edit that removes the tag hides the person, and one that adds it shows the person
+        source.set(source.indexOf(BENSON), new PersonBuilder(BENSON).withTags().build());
+        assertMatchesFilteredSource();
+        source.set(source.indexOf(CARL), new PersonBuilder(CARL).withTags("friends").build());
+        assertMatchesFilteredSource();
+
+        source.sort(Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        assertMatchesFilteredSource();
+
+        source.setAll(List.of(DANIEL, ELLE));
+        assertMatchesFilteredSource();
+
+        source.clear();
+        assertMatchesFilteredSource();
+        assertEquals(7, (int) changeCounts.get(0));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> filteredPersons.remove(0));
+    }
+
+    private void assertMatchesFilteredSource() {
+        assertEquals(source.stream().filter(HAS_FRIENDS_TAG).toList(), filteredPersons);
+    }
+}
@@ -2,22 +2,31 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -112,6 +121,108 @@ public class ModelManagerTest {
         assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredPersonList());
     }
 
+    @Test
+    public void getFilteredPersonList_afterEachChange_matchesAddressBook() {
+        modelManager.addPerson(ALICE);
+        assertEquals(modelManager.getAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+
+        modelManager.addPersons(List.of(BENSON, CARL, DANIEL));
+        assertEquals(modelManager.getAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Edited").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(ALICE, editedBenson, CARL, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(CARL);
+        assertEquals(List.of(ALICE, editedBenson, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.removePersons(List.of(ALICE, DANIEL));
+        assertEquals(List.of(editedBenson), modelManager.getFilteredPersonList());
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(CARL).build());
+        assertEquals(List.of(CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getFilteredPersonList_singleChangeAtEitherEnd_matchesAddressBook() {
+        modelManager.addPersons(List.of(ALICE, BENSON, CARL, DANIEL));
+
+        modelManager.deletePerson(ALICE);
+        assertEquals(List.of(BENSON, CARL, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(DANIEL);
+        assertEquals(List.of(BENSON, CARL), modelManager.getFilteredPersonList());
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Edited").build();
+        modelManager.setPerson(CARL, editedCarl);
+        assertEquals(List.of(BENSON, editedCarl), modelManager.getFilteredPersonList());
+
+        modelManager.sortFilteredPersonList(Comparator.comparing(person -> person.getName().fullName,
+                Comparator.reverseOrder()));
+        modelManager.deletePerson(BENSON);
+        assertEquals(modelManager.getAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+        assertEquals(List.of(editedCarl), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_withCandidates_testsOnlyCandidates() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).withPerson(DANIEL).build());
+        List<Person> tested = new ArrayList<>();
+        Predicate<Person> recordingPredicate = person -> {
+            tested.add(person);
+            return !person.isSamePerson(CARL);
+        };
+
+        // candidates out of order, repeated, failing the predicate or not in the address book are all handled
+        Person stranger = new PersonBuilder().withName("Stranger").build();
+        modelManager.updateFilteredPersonList(recordingPredicate, List.of(DANIEL, CARL, ALICE, DANIEL, stranger));
+        assertEquals(List.of(ALICE, DANIEL), modelManager.getFilteredPersonList());
+        assertFalse(tested.contains(BENSON));
+    }
+
+    @Test
+    public void getAddressBookSnapshot_unchanged_returnsSameSnapshot() {
+        modelManager.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+        assertSame(snapshot, modelManager.getAddressBookSnapshot());
+
+        modelManager.addPerson(BENSON);
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_fromOtherThreadWhileChanging_consistent() throws Exception {
+        int personCount = 2000;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                int lastSize = 0;
+                while (lastSize < personCount) {
+                    List<Person> persons = modelManager.getAddressBookSnapshot().getPersonList();
+                    assertTrue(persons.size() >= lastSize);
+                    for (int i = 0; i < persons.size(); i++) {
+                        assertEquals(String.valueOf(10000000 + i), persons.get(i).getPhone().value);
+                    }
+                    lastSize = persons.size();
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        reader.start();
+
+        for (int i = 0; i < personCount; i++) {
+            modelManager.addPerson(new PersonBuilder().withPhone(String.valueOf(10000000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        reader.join();
+
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+    }
 
     @Test
     public void equals() {
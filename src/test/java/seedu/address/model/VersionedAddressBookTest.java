@@ -0,0 +1,215 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook addressBook =
+            new VersionedAddressBook(getTypicalAddressBook(), VersionedAddressBook.DEFAULT_HISTORY_BYTES);
+
+    @Test
+    public void constructor_nothingToUndoOrRedo() {
+        assertFalse(addressBook.canUndo());
+        assertFalse(addressBook.canRedo());
+        assertThrows(IllegalStateException.class, addressBook::undo);
+        assertThrows(IllegalStateException.class, addressBook::redo);
+    }
+
+    @Test
+    public void undoRedo_singleChanges_restoresPersonsInOrder() {
+        List<Person> typicalPersons = getTypicalPersons();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        List<List<Person>> states = new ArrayList<>();
+        states.add(copyOfPersons());
+        addressBook.addPerson(AMY);
+        addressBook.commit();
+        states.add(copyOfPersons());
+        addressBook.removePerson(typicalPersons.get(3));
+        addressBook.commit();
+        states.add(copyOfPersons());
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.commit();
+        states.add(copyOfPersons());
+
+        for (int i = states.size() - 2; i >= 0; i--) {
+            addressBook.undo();
+            assertEquals(states.get(i), addressBook.getPersonList());
+        }
+        assertFalse(addressBook.canUndo());
+
+        for (int i = 1; i < states.size(); i++) {
+            addressBook.redo();
+            assertEquals(states.get(i), addressBook.getPersonList());
+        }
+        assertFalse(addressBook.canRedo());
+    }
+
+    @Test
+    public void discardUncommittedChanges_changesReverted_nothingToUndo() {
+        List<Person> typicalPersons = getTypicalPersons();
+        List<Person> original = copyOfPersons();
+
+        addressBook.addPersons(List.of(AMY, BOB));
+        addressBook.removePersons(List.of(typicalPersons.get(1), typicalPersons.get(4)));
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        addressBook.discardUncommittedChanges();
+
+        assertEquals(original, addressBook.getPersonList());
+        assertFalse(addressBook.canUndo());
+        addressBook.commit();
+        assertFalse(addressBook.canUndo());
+    }
+
+    @Test
+    public void discardUncommittedChanges_afterCommit_earlierStatesKept() {
+        addressBook.addPerson(AMY);
+        addressBook.commit();
+        List<Person> committed = copyOfPersons();
+        addressBook.undo();
+        addressBook.redo();
+
+        addressBook.addPerson(BOB);
+        addressBook.discardUncommittedChanges();
+        assertEquals(committed, addressBook.getPersonList());
+
+        addressBook.undo();
+        assertEquals(getTypicalPersons(), addressBook.getPersonList());
+    }
+
+    @Test
+    public void undoRedo_batchChanges_restoresPersonsInOrder() {
+        List<Person> typicalPersons = getTypicalPersons();
+        List<Person> original = copyOfPersons();
+
+        addressBook.removePersons(List.of(typicalPersons.get(5), typicalPersons.get(1), typicalPersons.get(2)));
+        addressBook.setPersons(Map.of(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build()));
+        addressBook.addPersons(List.of(AMY, BOB));
+        addressBook.commit();
+        List<Person> changed = copyOfPersons();
+
+        addressBook.undo();
+        assertEquals(original, addressBook.getPersonList());
+        assertEquals(new AddressBook(getTypicalAddressBook()), addressBook);
+
+        addressBook.redo();
+        assertEquals(changed, addressBook.getPersonList());
+    }
+
+    @Test
+    public void undoRedo_wholesaleChanges_restoresPersons() {
+        List<Person> original = copyOfPersons();
+
+        addressBook.sortPersons(Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        addressBook.commit();
+        List<Person> sorted = copyOfPersons();
+        addressBook.resetData(new AddressBook());
+        addressBook.commit();
+
+        addressBook.undo();
+        assertEquals(sorted, addressBook.getPersonList());
+        addressBook.undo();
+        assertEquals(original, addressBook.getPersonList());
+
+        addressBook.redo();
+        addressBook.redo();
+        assertTrue(addressBook.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_committedFirst() {
+        List<Person> original = copyOfPersons();
+        addressBook.addPerson(AMY);
+        assertTrue(addressBook.canUndo());
+
+        addressBook.undo();
+        assertEquals(original, addressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        addressBook.addPerson(AMY);
+        addressBook.commit();
+        addressBook.undo();
+        assertTrue(addressBook.canRedo());
+
+        addressBook.addPerson(BOB);
+        assertFalse(addressBook.canRedo());
+        addressBook.commit();
+        assertFalse(addressBook.canRedo());
+    }
+
+    @Test
+    public void commit_nothingChanged_nothingToUndo() {
+        addressBook.commit();
+        assertFalse(addressBook.canUndo());
+    }
+
+    @Test
+    public void commit_overBudget_dropsOldestStates() {
+        // enough for the most recent removal of one person, but not for two
+        VersionedAddressBook smallHistory = new VersionedAddressBook(getTypicalAddressBook(), 1000);
+        List<Person> typicalPersons = getTypicalPersons();
+
+        smallHistory.removePerson(typicalPersons.get(0));
+        smallHistory.commit();
+        smallHistory.removePerson(typicalPersons.get(1));
+        smallHistory.commit();
+
+        smallHistory.undo();
+        assertEquals(typicalPersons.subList(1, typicalPersons.size()), smallHistory.getPersonList());
+        assertFalse(smallHistory.canUndo());
+    }
+
+    @Test
+    public void commit_sortWithinBudget_earlierStatesKept() {
+        // enough for the removal of one person and a sort, which keeps no person in memory that is not in the list
+        VersionedAddressBook smallHistory = new VersionedAddressBook(getTypicalAddressBook(), 1000);
+        List<Person> typicalPersons = getTypicalPersons();
+
+        smallHistory.removePerson(typicalPersons.get(0));
+        smallHistory.commit();
+        smallHistory.sortPersons(Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        smallHistory.commit();
+
+        smallHistory.undo();
+        assertEquals(typicalPersons.subList(1, typicalPersons.size()), smallHistory.getPersonList());
+        smallHistory.undo();
+        assertEquals(typicalPersons, smallHistory.getPersonList());
+    }
+
+    @Test
+    public void undo_changesMutationLog_keepsLogConsistent() {
+        long versionBefore = addressBook.getVersion();
+        addressBook.removePerson(ALICE);
+        addressBook.commit();
+        addressBook.undo();
+
+        // putting Alice back in the middle of the list cannot be described by the mutation log
+        assertTrue(addressBook.getVersion() > versionBefore);
+        assertTrue(addressBook.getMutationsSince(versionBefore).isEmpty());
+    }
+
+    private List<Person> copyOfPersons() {
+        return new ArrayList<>(addressBook.getPersonList());
+    }
+}
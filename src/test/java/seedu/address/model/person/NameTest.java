@@ -87,4 +87,10 @@ public class NameTest {
         assertTrue(nameB.compareTo(nameA) > 0); // Bob > Alice
         assertEquals(0, nameA.compareTo(nameC)); // Alice == alice (case-insensitive)
     }
+
+    @Test
+    public void getSearchKey() {
+        assertEquals("alice bob", new Name("Alice BOB").getSearchKey());
+        assertEquals(new Name("alice bob").getSearchKey(), new Name("ALICE BOB").getSearchKey());
+    }
 }
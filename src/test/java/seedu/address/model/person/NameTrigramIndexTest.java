@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex index = new NameTrigramIndex();
+
+    @Test
+    public void findCandidates_keywordShorterThanTrigram_returnsEmptyOptional() {
+        index.reset(getTypicalPersons());
+        assertFalse(index.findCandidates(Arrays.asList("meier", "al")).isPresent());
+    }
+
+    @Test
+    public void findCandidates_substringKeyword_returnsMatchingPersons() {
+        index.reset(getTypicalPersons());
+
+        // "Benson Meier" and "Daniel Meier" both contain "eie" regardless of case
+        Set<Person> candidates = index.findCandidates(Collections.singletonList("MEIER")).get();
+        assertTrue(candidates.contains(BENSON));
+        assertTrue(candidates.contains(DANIEL));
+        assertFalse(candidates.contains(ALICE));
+    }
+
+    @Test
+    public void findCandidates_noPersonHasTrigram_returnsEmptySet() {
+        index.reset(getTypicalPersons());
+        assertEquals(Optional.of(Collections.emptySet()), index.findCandidates(Collections.singletonList("xyz")));
+    }
+
+    @Test
+    public void findCandidates_containsEveryPersonMatchedByPredicate() {
+        List<Person> persons = getTypicalPersons();
+        index.reset(persons);
+        for (String keyword : Arrays.asList("ali", "Meier", "e m", "kurz", "nson me", "zzz")) {
+            NameContainsKeywordsPredicate predicate =
+                    new NameContainsKeywordsPredicate(Collections.singletonList(keyword));
+            Set<Person> candidates = index.findCandidates(Collections.singletonList(keyword)).get();
+            persons.stream()
+                    .filter(predicate)
+                    .forEach(person -> assertTrue(candidates.contains(person), keyword + " / " + person));
+        }
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerCandidate() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+        assertFalse(index.findCandidates(Collections.singletonList("alice")).get().contains(ALICE));
+        assertTrue(index.findCandidates(Collections.singletonList("benson")).get().contains(BENSON));
+    }
+
+    @Test
+    public void remove_equalButDistinctPerson_keepsIndexedPerson() {
+        index.add(ALICE);
+        index.remove(new PersonBuilder(ALICE).build());
+        assertTrue(index.findCandidates(Collections.singletonList("alice")).get().contains(ALICE));
+    }
+}
@@ -104,6 +104,14 @@ public class PersonTest {
 
         assertNotEquals(person.getLastContacted(), updatedPerson.getLastContacted());
         assertNotNull(updatedPerson.getLastContacted().orElse(null));
+        assertEquals(person.getId(), updatedPerson.getId());
+    }
+
+    @Test
+    public void getId_distinctPersonsWithSameFields_differentIdsButEqual() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertNotEquals(ALICE.getId(), aliceCopy.getId());
+        assertEquals(ALICE, aliceCopy);
     }
 
     @Test
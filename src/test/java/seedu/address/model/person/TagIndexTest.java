@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex index = new TagIndex();
+
+    @Test
+    public void getPersonsWithTag_matchesIgnoringCase() {
+        index.reset(getTypicalPersons());
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL)),
+                new HashSet<>(index.getPersonsWithTag("FRIENDS")));
+        assertEquals(Collections.singletonList(BENSON), index.getPersonsWithTag("owesmoney"));
+        assertTrue(index.getPersonsWithTag("friend").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithTag_sameAsTagMatchesKeywordPredicate() {
+        List<Person> persons = getTypicalPersons();
+        index.reset(persons);
+        // full-width keywords match the tags spelt with their ASCII forms
+        String fullWidthFriends = "\uff26\uff32\uff29\uff25\uff2e\uff24\uff33";
+        String fullWidthOwesMoney = "\uff4f\uff57\uff45\uff53\uff2d\uff4f\uff4e\uff45\uff59";
+        for (String keyword : Arrays.asList("friends", "OWESMONEY", fullWidthFriends, fullWidthOwesMoney, "friend")) {
+            Set<Person> expected = persons.stream()
+                    .filter(new TagMatchesKeywordPredicate(Collections.singletonList(keyword)))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(index.getPersonsWithTag(keyword)), keyword);
+        }
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL)),
+                new HashSet<>(index.getPersonsWithTag(fullWidthFriends)));
+    }
+
+    @Test
+    public void countPersonsWithTag_returnsNumberOfTaggedPersons() {
+        index.reset(getTypicalPersons());
+        assertEquals(3, index.countPersonsWithTag("friends"));
+        assertEquals(0, index.countPersonsWithTag("colleagues"));
+    }
+
+    @Test
+    public void getPersonsWithTagContaining_sameAsPredicate() {
+        List<Person> persons = getTypicalPersons();
+        index.reset(persons);
+        for (String keyword : Arrays.asList("friend", "MONEY", "e", "zzz")) {
+            List<String> keywords = Collections.singletonList(keyword);
+            Set<Person> expected = persons.stream()
+                    .filter(new TagsContainsKeywordsPredicate(keywords))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(index.getPersonsWithTagContaining(keywords)), keyword);
+        }
+    }
+
+    @Test
+    public void remove_indexedPerson_slotReusedWithoutStaleTags() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+        index.add(CARL);
+
+        assertEquals(Collections.singletonList(BENSON), index.getPersonsWithTag("friends"));
+        assertTrue(index.getPersonsWithTagContaining(Collections.singletonList("friends")).contains(BENSON));
+    }
+
+    @Test
+    public void remove_equalButDistinctPerson_keepsIndexedPerson() {
+        index.add(ALICE);
+        index.remove(new PersonBuilder(ALICE).build());
+        assertEquals(Collections.singletonList(ALICE), index.getPersonsWithTag("friends"));
+    }
+}
@@ -7,12 +7,16 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +52,21 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameEmailDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithUpperCaseEmail = new PersonBuilder(BOB)
+                .withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(aliceWithUpperCaseEmail));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -110,6 +129,22 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonTakesEmailOfAnotherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person aliceWithBobEmail = new PersonBuilder(ALICE).withEmail(BOB.getEmail().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, aliceWithBobEmail));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityReleased() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -128,6 +163,73 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdButDifferentFields_removesPerson() {
+        uniquePersonList.add(ALICE);
+        Person staleAlice = new Person(ALICE.getId(), ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getAddress(), ALICE.getRole(), Collections.emptySet(), ALICE.getLastContacted());
+        assertEquals(ALICE, uniquePersonList.remove(staleAlice));
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
+    @Test
+    public void setPerson_afterEarlierRemoval_replacesShiftedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(AMY);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+
+        uniquePersonList.setPerson(BOB, editedBob);
+        uniquePersonList.remove(AMY);
+
+        assertEquals(Collections.singletonList(editedBob), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(editedBob, uniquePersonList.find(editedBob).get());
+    }
+
+    @Test
+    public void addAll_duplicatesInListAndBatch_skipsDuplicates() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<MutationOutcome> outcomes = uniquePersonList.addAll(Arrays.asList(ALICE, BOB, bobWithAlicePhone, BOB));
+
+        assertEquals(Arrays.asList(MutationOutcome.DUPLICATE, MutationOutcome.APPLIED, MutationOutcome.DUPLICATE,
+                MutationOutcome.DUPLICATE), outcomes);
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setAll_mixedReplacements_appliesValidReplacements() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        replacements.put(ALICE, editedAlice);
+        replacements.put(BOB, bobWithAliceEmail);
+        replacements.put(new PersonBuilder().withName("Nobody").withPhone("000").build(), BOB);
+
+        Map<Person, MutationOutcome> outcomes = uniquePersonList.setAll(replacements);
+
+        assertEquals(Arrays.asList(MutationOutcome.APPLIED, MutationOutcome.DUPLICATE, MutationOutcome.NOT_FOUND),
+                new ArrayList<>(outcomes.values()));
+        assertEquals(Arrays.asList(editedAlice, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_missingAndRepeatedPersons_skipped() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        List<MutationOutcome> outcomes = uniquePersonList.removeAll(Arrays.asList(ALICE, ALICE, AMY));
+
+        assertEquals(Arrays.asList(MutationOutcome.APPLIED, MutationOutcome.NOT_FOUND, MutationOutcome.NOT_FOUND),
+                outcomes);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -163,6 +265,14 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_list_replacesIdentityIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final long NO_COMPACTION = Long.MAX_VALUE;
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Applies some changes to {@code addressBook} and saves just those changes to {@code storage}.
+     */
+    private void saveChanges(JournaledAddressBookStorage storage, AddressBook addressBook,
+            Runnable changes) throws Exception {
+        long version = addressBook.getVersion();
+        changes.run();
+        storage.saveAddressBookChanges(addressBook.snapshot(), addressBook.getMutationsSince(version).get());
+    }
+
+    private ReadOnlyAddressBook read(Path filePath) throws Exception {
+        return new JournaledAddressBookStorage(filePath, NO_COMPACTION, true).readAddressBook().get();
+    }
+
+    @Test
+    public void readAddressBook_missingFileAndJournal_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBookChanges_thenRead_changesReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+
+        saveChanges(storage, addressBook, () -> {
+            addressBook.addPerson(HOON);
+            addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+            addressBook.removePerson(BENSON);
+        });
+        saveChanges(storage, addressBook, () -> addressBook.addPerson(IDA));
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        assertEquals(addressBook, new AddressBook(read(filePath)));
+
+        // a full save includes the journal
+        storage.saveAddressBook(addressBook);
+        assertFalse(JournaledAddressBookStorage.hasJournal(filePath));
+        assertEquals(addressBook, new AddressBook(read(filePath)));
+    }
+
+    @Test
+    public void saveAddressBookChanges_journalNotRead_wholeAddressBookSaved() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        saveChanges(new JournaledAddressBookStorage(filePath), addressBook, () -> addressBook.addPerson(HOON));
+
+        assertFalse(JournaledAddressBookStorage.hasJournal(filePath));
+        assertEquals(addressBook, new AddressBook(read(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_discarded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journal = JournaledAddressBookStorage.getJournalPath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        saveChanges(storage, addressBook, () -> addressBook.addPerson(HOON));
+        Files.writeString(journal, "{\"seq\":1,\"type\":\"ADD\",\"per", UTF_8, StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopenedStorage = new JournaledAddressBookStorage(filePath, NO_COMPACTION, true);
+        assertEquals(addressBook, new AddressBook(reopenedStorage.readAddressBook().get()));
+
+        // later records are not appended to the incomplete one
+        saveChanges(reopenedStorage, addressBook, () -> addressBook.addPerson(IDA));
+        assertEquals(addressBook, new AddressBook(read(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_corruptRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION, true);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(JournaledAddressBookStorage.getJournalPath(filePath),
+                "{\"seq\":0,\"type\":\"REMOVE\",\"person\":{\"name\":\"Nobody\"}}\n", UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> read(filePath));
+    }
+
+    @Test
+    public void saveAddressBookChanges_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1, false);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        saveChanges(storage, addressBook, () -> addressBook.addPerson(HOON));
+        storage.awaitCompaction();
+        saveChanges(storage, addressBook, () -> addressBook.addPerson(IDA));
+        storage.awaitCompaction();
+
+        assertFalse(JournaledAddressBookStorage.hasJournal(filePath));
+        assertEquals(addressBook, new AddressBook(read(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_compactedJournalNotDeleted_recordsNotReplayedTwice() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journal = JournaledAddressBookStorage.getJournalPath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        saveChanges(storage, addressBook, () -> addressBook.addPerson(HOON));
+        byte[] compactedRecords = Files.readAllBytes(journal);
+
+        JournaledAddressBookStorage compactingStorage = new JournaledAddressBookStorage(filePath, 1, false);
+        compactingStorage.readAddressBook();
+        saveChanges(compactingStorage, addressBook, () -> addressBook.addPerson(IDA));
+        compactingStorage.awaitCompaction();
+
+        // as if the app stopped between writing the new snapshot and deleting the compacted journal
+        Files.write(filePath.resolveSibling(filePath.getFileName() + JournaledAddressBookStorage
+                .COMPACTING_JOURNAL_EXTENSION), compactedRecords);
+        assertTrue(JournaledAddressBookStorage.hasJournal(filePath));
+        assertEquals(addressBook, new AddressBook(read(filePath)));
+    }
+
+}
@@ -9,15 +9,25 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +70,71 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAndSaveAddressBook_notPrettyPrinted_singleLineReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_severalConversionBatches_orderKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 2 * JsonAddressBookFile.CONVERSION_BATCH_SIZE + 1; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(original.getPersonList(), jsonAddressBookStorage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.substring(0, content.length() / 2));
+
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_failsPartway_existingFileKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        String content = Files.readString(filePath);
+
+        // a person list that fails after the first person has been written
+        List<Person> failingPersons = new ArrayList<>(List.of(HOON, IDA)) {
+            @Override
+            public Person get(int index) {
+                if (index > 0) {
+                    throw new UncheckedIOException(new IOException("Disk full"));
+                }
+                return super.get(index);
+            }
+
+            @Override
+            public Iterator<Person> iterator() {
+                return IntStream.range(0, size()).mapToObj(this::get).iterator();
+            }
+        };
+        ObservableList<Person> persons = FXCollections.observableList(failingPersons);
+        assertThrows(UncheckedIOException.class, () -> jsonAddressBookStorage.saveAddressBook(() -> persons));
+
+        assertEquals(content, Files.readString(filePath));
+        assertEquals(List.of(filePath), Files.list(testFolder).toList());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
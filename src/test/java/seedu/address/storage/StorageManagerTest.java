@@ -2,9 +2,15 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -78,6 +84,36 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBookInBackground_thenFlush_latestAddressBookSaved() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBookInBackground(new AddressBook(), e -> fail());
+        storageManager.saveAddressBookInBackground(original.snapshot(), e -> fail());
+        storageManager.flushAddressBook();
+
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookInBackground_saveFails_failureReportedAndThrownByFlush() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("failing")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager failingStorageManager =
+                new StorageManager(failingStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        List<IOException> reportedFailures = new CopyOnWriteArrayList<>();
+
+        failingStorageManager.saveAddressBookInBackground(getTypicalAddressBook(), reportedFailures::add);
+
+        IOException thrown = assertThrows(IOException.class, failingStorageManager::flushAddressBook);
+        assertSame(failure, thrown);
+        assertEquals(List.of(failure), reportedFailures);
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -11,6 +11,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -18,8 +20,10 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.VcfParser;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 public class VcfAddressBookStorageTest {
     private static final String RELATIVE_FILE_NAME = EXPORT_DIR_PREFIX + "TempAddressBook.vcf";
@@ -96,4 +100,18 @@ public class VcfAddressBookStorageTest {
         String content = Files.readString(filePath);
         assertFalse(content.isEmpty(), "The VCF export file should not be empty.");
     }
+
+    @Test
+    public void saveAddressBook_thenImport_samePersonsInOrder() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path filePath = tempFolder.resolve("exported.vcf");
+        new VcfAddressBookStorage(filePath.toString()).saveAddressBook(original, filePath);
+
+        List<Person> imported = new ArrayList<>();
+        VcfParser.streamVcf(filePath.toString(), imported::add, error -> { });
+        assertEquals(original.getPersonList().stream().map(Person::getName).toList(),
+                imported.stream().map(Person::getName).toList());
+        assertEquals(original.getPersonList().stream().map(Person::getAddress).toList(),
+                imported.stream().map(Person::getAddress).toList());
+    }
 }
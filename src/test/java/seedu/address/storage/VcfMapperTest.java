@@ -1,8 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-
-import java.util.List;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -13,23 +12,10 @@ import seedu.address.testutil.TypicalPersons;
 public class VcfMapperTest {
 
     @Test
-    public void mapToVcards_typicalData_correctlyMapped() {
-        // Arrange: Convert typical AB3 persons to VcfAdaptedPersons
-        List<VcfAdaptedPerson> adaptedPersons = TypicalPersons.getTypicalAddressBook()
-                .getPersonList()
-                .stream()
-                .map(VcfAdaptedPerson::new)
-                .toList();
-
-        // Act: Map to vCards
-        List<VCard> vcards = VcfMapper.mapToVcards(adaptedPersons);
-
-        // Assert: Same number of entries
-        assertEquals(adaptedPersons.size(), vcards.size());
+    public void toVcard_typicalPerson_correctlyMapped() {
+        VcfAdaptedPerson original = new VcfAdaptedPerson(TypicalPersons.ALICE);
 
-        // Check a few fields of the first contact
-        VcfAdaptedPerson original = adaptedPersons.get(0);
-        VCard vcard = vcards.get(0);
+        VCard vcard = VcfMapper.toVcard(original);
 
         assertEquals(original.getFn(), vcard.getFormattedName().getValue());
         assertEquals(original.getTel(), vcard.getTelephoneNumbers().get(0).getText());
@@ -42,8 +28,7 @@ public class VcfMapperTest {
     }
 
     @Test
-    public void mapToVcards_emptyList_returnsEmptyList() {
-        List<VCard> vcards = VcfMapper.mapToVcards(List.of());
-        assertEquals(0, vcards.size());
+    public void toVcard_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> VcfMapper.toVcard(null));
     }
 }